@@ -0,0 +1,276 @@
+package com.concertmania.ticketing.queue;
+
+import com.concertmania.ticketing.concert.entity.Concert;
+import com.concertmania.ticketing.concert.enums.ConcertStatus;
+import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.queue.service.QueueService;
+import com.concertmania.ticketing.queue.service.QueueStreamService;
+import com.concertmania.ticketing.user.entity.User;
+import com.concertmania.ticketing.user.enums.UserRole;
+import com.concertmania.ticketing.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 부하 하네스
+ * 가상 사용자가 대기열에 등록하고(서비스/컨트롤러), 순번을 폴링하고(사용자별 상태 / 공개 스냅샷), SSE 스트림으로 순번을 받는 흐름을
+ * 단계별로 실행해 처리량, p50/p99 지연, Redis ops/s 를 출력한다. Redis 는 Testcontainers, Postgres 는 test 프로필의 Testcontainers JDBC URL 을 사용한다.
+ * 실행: ./gradlew loadTest -PloadTest.users=100000 (loadTest.maxP99Ms 를 주면 단계별 p99 가 이를 넘을 때 실패)
+ */
+@Slf4j
+@Testcontainers
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.com.concertmania.ticketing=WARN",
+                "spring.threads.virtual.enabled=true"
+        }
+)
+@ActiveProfiles("test")
+public class QueueLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadTest.users", 100_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 256);
+    private static final int STREAMS = Integer.getInteger("loadTest.streams", 1_000);
+    private static final int POLLS_PER_USER = Integer.getInteger("loadTest.polls", 1);
+    private static final long MAX_P99_MS = Long.getLong("loadTest.maxP99Ms", 0);
+
+    // 서비스 경로 가상 사용자 ID (DB 사용자와 겹치지 않도록)
+    private static final long VIRTUAL_USER_OFFSET = 10_000_000L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+        registry.add("queue.stream.max-connections", () -> STREAMS * 2);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private QueueStreamService queueStreamService;
+
+    @Test
+    @DisplayName("대기열 부하 - 등록 / 폴링 / 스트리밍")
+    void waitingRoomLoad() throws Exception {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // 좌석이 없는 콘서트 - 모든 사용자가 대기열에 남음
+        Concert concert = concertRepository.save(Concert.builder()
+                .title("부하 하네스 콘서트")
+                .venue("테스트 공연장")
+                .concertDate(LocalDateTime.now().plusDays(30))
+                .openTime(LocalDateTime.now().minusDays(1))
+                .closeTime(LocalDateTime.now().plusDays(29))
+                .status(ConcertStatus.SCHEDULED)
+                .build());
+        Long concertId = concert.getId();
+        String baseUrl = "http://localhost:" + port + "/api/queue";
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        List<Phase> phases = new ArrayList<>();
+
+        // 1. 서비스 경로 등록 (가상 사용자)
+        phases.add(run("register (service)", USERS, executor, i -> queueService.registerToQueue(concertId,
+                User.builder().id(VIRTUAL_USER_OFFSET + i).role(UserRole.USER).build(), null, "load-" + i)));
+        assertThat(queueService.getQueueSize(concertId)).isEqualTo(USERS);
+
+        // 2. 컨트롤러 경로 등록 (SSE 스트림용 DB 사용자)
+        List<String> tokens = createStreamUsers();
+        phases.add(run("register (http)", STREAMS, executor, i -> expectStatus(client, HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Authorization", "Bearer " + tokens.get(i))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"concertId\":" + concertId + "}"))
+                .build(), 200)));
+
+        // 3. 사용자별 상태 폴링 (순번 계산 + 하트비트 갱신)
+        phases.add(run("poll status (service)", USERS * POLLS_PER_USER, executor, i -> queueService.getQueueStatus(concertId,
+                VIRTUAL_USER_OFFSET + i % USERS)));
+
+        // 4. 공개 스냅샷 폴링 (익명, 인스턴스 캐시)
+        HttpRequest snapshotRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/" + concertId + "/snapshot")).GET().build();
+        phases.add(run("poll snapshot (http)", USERS * POLLS_PER_USER, executor, i -> expectStatus(client, snapshotRequest, 200)));
+
+        // 5. SSE 스트림 - 연결 후 첫 이벤트 수신까지, 이후 변경 이벤트 한 번을 모든 스트림에 전송
+        List<HttpResponse<Stream<String>>> streams = new ArrayList<>();
+        phases.add(run("stream first event (http)", STREAMS, executor, i -> {
+            HttpResponse<Stream<String>> response = send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/" + concertId + "/stream"))
+                    .header("Authorization", "Bearer " + tokens.get(i))
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofLines());
+            Iterator<String> lines = response.body().iterator();
+            while (lines.hasNext() && !lines.next().startsWith("data:")) {
+                // 첫 이벤트까지 대기
+            }
+            synchronized (streams) {
+                streams.add(response);
+            }
+        }));
+        assertThat(queueStreamService.getConnectionCount()).isGreaterThanOrEqualTo(STREAMS);
+        phases.add(run("flush to streams", 1, executor, i -> {
+            queueStreamService.markChanged(concertId);
+            queueStreamService.flushChanges();
+        }));
+        streams.forEach(stream -> stream.body().close());
+        executor.shutdownNow();
+
+        log.info(String.format("[loadTest] 가상 사용자 %,d명, 동시성 %d, SSE 스트림 %,d개", USERS, CONCURRENCY, STREAMS));
+        phases.forEach(phase -> log.info("[loadTest] {}", phase));
+
+        phases.forEach(phase -> {
+            assertThat(phase.failures).as(phase.name + " 실패 건수").isZero();
+            if (MAX_P99_MS > 0) {
+                assertThat(phase.percentileMs(0.99)).as(phase.name + " p99(ms)").isLessThanOrEqualTo(MAX_P99_MS);
+            }
+        });
+    }
+
+    /**
+     * 단계 실행 - 동시성 제한 안에서 count 번 실행하며 건별 지연과 Redis 명령 수를 측정
+     */
+    private Phase run(String name, int count, ExecutorService executor, IntConsumer task) throws InterruptedException {
+        long[] latencies = new long[count];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(CONCURRENCY);
+
+        long redisCommands = redisCommands();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            permits.acquire();
+            executor.execute(() -> {
+                long requestStart = System.nanoTime();
+                try {
+                    task.accept(index);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - requestStart;
+                    permits.release();
+                }
+            });
+        }
+        permits.acquire(CONCURRENCY);
+        permits.release(CONCURRENCY);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long commands = redisCommands() - redisCommands;
+
+        Arrays.sort(latencies);
+        return new Phase(name, latencies, seconds, commands, failures.get());
+    }
+
+    private List<String> createStreamUsers() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < STREAMS; i++) {
+            users.add(User.builder()
+                    .username("load-stream-" + i)
+                    .email("load-stream-" + i + "@test.com")
+                    .password("password")
+                    .role(UserRole.USER)
+                    .build());
+        }
+        List<String> tokens = new ArrayList<>();
+        userRepository.saveAll(users).forEach(user -> tokens.add(jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()))));
+        return tokens;
+    }
+
+    private void expectStatus(HttpClient client, HttpRequest request, int status) {
+        int actual = send(client, request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (actual != status) {
+            throw new IllegalStateException("unexpected status " + actual + " for " + request.uri());
+        }
+    }
+
+    private <T> HttpResponse<T> send(HttpClient client, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            return client.send(request, handler);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Redis 누적 처리 명령 수 (INFO stats) - 단계 전후 차이로 ops/s 계산
+    private long redisCommands() {
+        try (RedisConnection connection = redisTemplate.getConnectionFactory().getConnection()) {
+            return Long.parseLong(connection.serverCommands().info("stats").getProperty("total_commands_processed"));
+        }
+    }
+
+    /**
+     * 단계별 측정 결과
+     */
+    private record Phase(String name, long[] sortedLatencies, double seconds, long redisCommands, int failures) {
+
+        double percentileMs(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-26s %,9d건  처리량 %,10.0f ops/s  p50 %8.2fms  p99 %8.2fms  Redis %,10.0f ops/s  실패 %d건",
+                    name, sortedLatencies.length, sortedLatencies.length / seconds,
+                    percentileMs(0.50), percentileMs(0.99), redisCommands / seconds, failures);
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class ConcertResponse {
     @Schema(description = "예매 마감 시간", example = "2024-12-24T23:59:59")
     private LocalDateTime closeTime;
 
+    @Schema(description = "추첨 대기실 오픈 시간", example = "2024-11-30T10:00:00")
+    private LocalDateTime lobbyOpenTime;
+
     @Schema(description = "콘서트 상태", example = "ACTIVE")
     private ConcertStatus status;
 
@@ -50,6 +53,7 @@ public class ConcertResponse {
                 concert.getVenue(),
                 concert.getOpenTime(),
                 concert.getCloseTime(),
+                concert.getLobbyOpenTime(),
                 concert.getStatus(),
                 concert.getCreatedAt(),
                 concert.getUpdatedAt()
@@ -34,4 +34,7 @@ public class ConcertUpdateRequest {
     @NotNull(message = "예매 마감 시간은 필수입니다.")
     @Schema(description = "예매 마감 시간", example = "2024-12-25T23:59:59")
     private LocalDateTime closeTime;
-}
\ No newline at end of file
+
+    @Schema(description = "추첨 대기실 오픈 시간 (선택 - 이 시간부터 예매 오픈 전까지 등록한 사용자는 오픈 시 무작위 순서로 대기열에 배정)", example = "2024-11-30T10:00:00")
+    private LocalDateTime lobbyOpenTime;
+}
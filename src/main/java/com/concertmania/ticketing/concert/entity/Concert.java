@@ -40,6 +40,9 @@ public class Concert extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDateTime openTime;
 
+    // 추첨 대기실 오픈 시간 (설정 시 이 시간부터 예매 오픈 전까지 등록한 사용자는 오픈 시 무작위 순서로 대기열에 배정)
+    private LocalDateTime lobbyOpenTime;
+
     @Column(nullable = false)
     private LocalDateTime closeTime;
 
@@ -53,15 +56,24 @@ public class Concert extends BaseTimeEntity {
     @OneToMany(mappedBy = "concert", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Reservation> reservations;
 
-    public Concert update(String title, LocalDateTime concertDate, String venue, LocalDateTime openTime, LocalDateTime closeTime) {
+    public Concert update(String title, LocalDateTime concertDate, String venue, LocalDateTime openTime,
+                          LocalDateTime closeTime, LocalDateTime lobbyOpenTime) {
         this.title = title;
         this.concertDate = concertDate;
         this.venue = venue;
         this.openTime = openTime;
         this.closeTime = closeTime;
+        this.lobbyOpenTime = lobbyOpenTime;
         return this;
     }
 
+    /**
+     * 추첨 대기실 운영 시간 여부 (대기실 오픈 시간 ~ 예매 오픈 시간)
+     */
+    public boolean isLobbyOpen(LocalDateTime now) {
+        return lobbyOpenTime != null && !now.isBefore(lobbyOpenTime) && now.isBefore(openTime);
+    }
+
     public Concert markAsSoldOut() {
         this.status = ConcertStatus.SOLD_OUT;
         return this;
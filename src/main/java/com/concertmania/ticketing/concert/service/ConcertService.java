@@ -6,6 +6,7 @@ import com.concertmania.ticketing.concert.dto.ConcertUpdateRequest;
 import com.concertmania.ticketing.concert.entity.Concert;
 import com.concertmania.ticketing.concert.enums.ConcertStatus;
 import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.seat.service.SeatMapService;
 import com.concertmania.ticketing.utils.exception.CustomException;
 import com.concertmania.ticketing.utils.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 public class ConcertService {
 
     private final ConcertRepository concertRepository;
+    private final SeatMapService seatMapService;
 
     @Transactional
     public ConcertResponse createConcert(ConcertCreateRequest request) {
@@ -35,6 +37,7 @@ public class ConcertService {
                 .venue(request.getVenue())
                 .openTime(request.getOpenTime())
                 .closeTime(request.getCloseTime())
+                .lobbyOpenTime(request.getLobbyOpenTime())
                 .status(ConcertStatus.SCHEDULED)
                 .build();
 
@@ -49,6 +52,13 @@ public class ConcertService {
         if (!request.getCloseTime().isAfter(request.getOpenTime())) {
             throw new CustomException(ErrorCode.CLOSE_TIME_AFTER_OPEN_TIME);
         }
+        validateLobbyOpenTime(request.getLobbyOpenTime(), request.getOpenTime());
+    }
+
+    private static void validateLobbyOpenTime(LocalDateTime lobbyOpenTime, LocalDateTime openTime) {
+        if (lobbyOpenTime != null && !lobbyOpenTime.isBefore(openTime)) {
+            throw new CustomException(ErrorCode.LOBBY_OPEN_TIME_AFTER_OPEN_TIME);
+        }
     }
 
     public Page<ConcertResponse> getAllConcerts(String title, String venue, Pageable pageable) {
@@ -67,14 +77,20 @@ public class ConcertService {
         Concert concert = concertRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_NOT_FOUND));
 
+        validateLobbyOpenTime(request.getLobbyOpenTime(), request.getOpenTime());
+
         Concert updatedConcert = concert.update(
                 request.getTitle(),
                 request.getConcertDate(),
                 request.getVenue(),
                 request.getOpenTime(),
-                request.getCloseTime()
+                request.getCloseTime(),
+                request.getLobbyOpenTime()
         );
 
+        // 좌석 배치도 응답에 콘서트 제목이 포함되므로 다시 구성
+        seatMapService.invalidate(id);
+
         return ConcertResponse.from(updatedConcert);
     }
 
@@ -86,6 +102,7 @@ public class ConcertService {
         // TODO 예약자가 있으면 삭제 불가 처리
         
         concert.delete();
+        seatMapService.invalidate(id);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.concertmania.ticketing.config;
+
+import com.concertmania.ticketing.config.security.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 대기열 실시간 알림용 STOMP 설정 (인메모리 Simple Broker)
+ * - /topic/queue/{concertId} : 콘서트별 공용 대기열 정보
+ * - /user/queue/status, /user/queue/admission : 사용자별 순번 변경 / 입장 알림
+ * 인스턴스 간 전파는 Redis Pub/Sub 대기열 이벤트로 처리하고, 각 인스턴스는 자신에게 연결된 세션에만 전송한다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final TaskScheduler messageBrokerTaskScheduler;
+
+    @Value("${queue.stomp.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // STOMP 하트비트로 끊긴 세션을 감지해 구독 정리 → 대기열 하트비트 갱신 중단 → 이탈 처리
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
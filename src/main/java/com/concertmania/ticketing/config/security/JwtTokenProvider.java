@@ -24,6 +24,10 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
 
+    public static final String ADMISSION_PASS_HEADER = "X-Admission-Pass";
+    private static final String TOKEN_TYPE = "type";
+    private static final String ADMISSION_PASS_TYPE = "admission";
+
     private final SecretKey key;
     private final long tokenValidityInMilliseconds;
     private final UserDetailsService userDetailsService;
@@ -73,8 +77,9 @@ public class JwtTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            // 입장권은 인증 토큰으로 사용할 수 없음
+            return !ADMISSION_PASS_TYPE.equals(claims.get(TOKEN_TYPE));
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -86,4 +91,35 @@ public class JwtTokenProvider {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * 대기열 입장권 발급 (사용자 + 콘서트 단위, 입장 만료 시각까지 유효)
+     */
+    public String createAdmissionPass(Long userId, Long concertId, Date expiresAt) {
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim(TOKEN_TYPE, ADMISSION_PASS_TYPE)
+                .claim("concertId", concertId)
+                .signWith(key, SignatureAlgorithm.HS512)
+                .expiration(expiresAt)
+                .compact();
+    }
+
+    /**
+     * 대기열 입장권 검증 - 서명과 만료 시각만 확인하므로 Redis 조회 없이 처리된다
+     */
+    public boolean validateAdmissionPass(String pass, Long userId, Long concertId) {
+        if (pass == null || pass.isBlank()) {
+            return false;
+        }
+        try {
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(pass).getPayload();
+            return ADMISSION_PASS_TYPE.equals(claims.get(TOKEN_TYPE))
+                    && String.valueOf(userId).equals(claims.getSubject())
+                    && concertId.equals(claims.get("concertId", Long.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("유효하지 않은 입장권입니다. User: {}, Concert: {}", userId, concertId);
+            return false;
+        }
+    }
+}
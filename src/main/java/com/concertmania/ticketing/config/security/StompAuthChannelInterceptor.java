@@ -0,0 +1,62 @@
+package com.concertmania.ticketing.config.security;
+
+import com.concertmania.ticketing.utils.exception.CustomException;
+import com.concertmania.ticketing.utils.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import static com.concertmania.ticketing.config.security.JwtAuthenticationFilter.AUTHORIZATION_HEADER;
+import static com.concertmania.ticketing.config.security.JwtAuthenticationFilter.BEARER_PREFIX;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 JWT 인증
+ * 브라우저 WebSocket 은 핸드셰이크에 헤더를 붙일 수 없으므로 HTTP 단계는 허용하고 STOMP 연결 단계에서 인증한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String USER_QUEUE_PREFIX = "/queue/";
+
+    private final JwtTokenProvider tokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String jwt = resolveToken(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+            if (!StringUtils.hasText(jwt) || !tokenProvider.validateToken(jwt)) {
+                throw new CustomException(ErrorCode.INVALID_STOMP_TOKEN);
+            }
+            accessor.setUser(tokenProvider.getAuthentication(jwt));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            if (accessor.getUser() == null) {
+                throw new CustomException(ErrorCode.INVALID_STOMP_TOKEN);
+            }
+            // 사용자별 큐는 /user/queue/** 로만 구독 가능 (세션별 실제 경로 직접 구독 차단)
+            String destination = accessor.getDestination();
+            if (destination != null && destination.startsWith(USER_QUEUE_PREFIX)) {
+                throw new CustomException(ErrorCode.STOMP_DESTINATION_FORBIDDEN);
+            }
+        }
+        return message;
+    }
+
+    private String resolveToken(String bearerToken) {
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
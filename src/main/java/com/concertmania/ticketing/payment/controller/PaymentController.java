@@ -1,11 +1,13 @@
 package com.concertmania.ticketing.payment.controller;
 
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
 import com.concertmania.ticketing.payment.docs.PaymentControllerDocs;
 import com.concertmania.ticketing.payment.dto.ConfirmPaymentRequest;
 import com.concertmania.ticketing.payment.dto.ConfirmPaymentResponse;
 import com.concertmania.ticketing.payment.dto.PaymentRequest;
 import com.concertmania.ticketing.payment.dto.PaymentResponse;
 import com.concertmania.ticketing.payment.service.PaymentService;
+import com.concertmania.ticketing.queue.service.QueueAdmissionThrottle;
 import com.concertmania.ticketing.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +22,17 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController implements PaymentControllerDocs {
 
     private final PaymentService paymentService;
+    private final QueueAdmissionThrottle queueAdmissionThrottle;
 
 
     @PostMapping()
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<PaymentResponse> startPayment(
             @Valid @RequestBody PaymentRequest request,
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
             @AuthenticationPrincipal User user) {
-        PaymentResponse response = paymentService.startPayment(request, user);
+        // 입장 배치 크기 조절용 처리 시간 기록 (트랜잭션 커밋 포함)
+        PaymentResponse response = queueAdmissionThrottle.recordPaymentStart(() -> paymentService.startPayment(request, user, admissionPass));
         return ResponseEntity.ok(response);
     }
 
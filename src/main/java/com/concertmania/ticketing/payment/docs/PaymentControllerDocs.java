@@ -1,5 +1,6 @@
 package com.concertmania.ticketing.payment.docs;
 
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
 import com.concertmania.ticketing.payment.dto.ConfirmPaymentRequest;
 import com.concertmania.ticketing.payment.dto.PaymentRequest;
 import com.concertmania.ticketing.payment.dto.PaymentResponse;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import jakarta.validation.Valid;
 
@@ -23,7 +25,8 @@ public interface PaymentControllerDocs {
 
     @Operation(
             summary = "결제 시작",
-            description = "좌석 예약 후 결제를 시작합니다. PG사로 결제 요청을 보내고 결제 대기 상태로 변경됩니다."
+            description = "좌석 예약 후 결제를 시작합니다. PG사로 결제 요청을 보내고 결제 대기 상태로 변경됩니다. " +
+                    "대기열 입장 시 발급된 입장권(X-Admission-Pass 헤더)이 필요합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -50,6 +53,14 @@ public interface PaymentControllerDocs {
                             schema = @Schema(implementation = ErrorResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "유효하지 않은 입장권",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "좌석을 찾을 수 없음",
@@ -85,6 +96,8 @@ public interface PaymentControllerDocs {
                     )
             )
             @Valid @RequestBody PaymentRequest request,
+            @Parameter(description = "대기열 입장권", required = true)
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
             @Parameter(hidden = true)
             @AuthenticationPrincipal User user
     );
@@ -1,5 +1,6 @@
 package com.concertmania.ticketing.payment.service;
 
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
 import com.concertmania.ticketing.notification.NotificationProducer;
 import com.concertmania.ticketing.payment.dto.ConfirmPaymentResponse;
 import com.concertmania.ticketing.payment.dto.PaymentRequest;
@@ -7,6 +8,8 @@ import com.concertmania.ticketing.payment.dto.PaymentResponse;
 import com.concertmania.ticketing.payment.entity.Payment;
 import com.concertmania.ticketing.payment.enums.PaymentStatus;
 import com.concertmania.ticketing.payment.repository.PaymentRepository;
+import com.concertmania.ticketing.queue.service.QueueService;
+import com.concertmania.ticketing.queue.service.QueueWaitTimeEstimator;
 import com.concertmania.ticketing.reservation.entity.Reservation;
 import com.concertmania.ticketing.reservation.entity.ReservationSeat;
 import com.concertmania.ticketing.reservation.enums.ReservationStatus;
@@ -14,6 +17,9 @@ import com.concertmania.ticketing.reservation.repository.ReservationRepository;
 import com.concertmania.ticketing.reservation.repository.ReservationSeatRepository;
 import com.concertmania.ticketing.seat.entity.Seat;
 import com.concertmania.ticketing.seat.repository.SeatRepository;
+import com.concertmania.ticketing.seat.service.SeatAvailabilityIndex;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import com.concertmania.ticketing.seat.service.SeatMapService;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.utils.exception.CustomException;
 import com.concertmania.ticketing.utils.exception.ErrorCode;
@@ -40,13 +46,24 @@ public class PaymentService {
     private final ReservationSeatRepository reservationSeatRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final NotificationProducer notificationProducer;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatMapService seatMapService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final QueueService queueService;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final JwtTokenProvider jwtTokenProvider;
 
     @Transactional
-    public PaymentResponse startPayment(PaymentRequest request, User user) {
+    public PaymentResponse startPayment(PaymentRequest request, User user, String admissionPass) {
 
         Seat seat = seatRepository.findByIdAndDeletedAtIsNull(request.getSeatId())
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
+        // 대기열 입장권 검증 (서명 검증만 수행 - Redis 조회 없음)
+        if (!jwtTokenProvider.validateAdmissionPass(admissionPass, user.getId(), seat.getConcert().getId())) {
+            throw new CustomException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
         // 예약 좌석 검증
         if (seatRepository.hasActiveReservations(request.getSeatId())) {
             throw new CustomException(ErrorCode.CANNOT_DELETE_RESERVED_SEAT);
@@ -73,6 +90,8 @@ public class PaymentService {
                 .seat(seat)
                 .build();
         reservationSeatRepository.save(reservationSeat);
+        seatAvailabilityIndex.markReserved(seat, true);
+        seatMapService.recordChange(seat.getConcert().getId(), List.of(seat.getId()));
 
         // Payment 생성 (결제 진행중 상태)
         String transactionId = "TXN_" + System.currentTimeMillis() + "_" + user.getId();
@@ -142,6 +161,9 @@ public class PaymentService {
         if (paymentSuccess) {
             payment.updateStatus(PaymentStatus.SUCCESS); // 결제 성공
             reservation.updateStatus(ReservationStatus.CONFIRMED); // 예약성공
+            seatInventoryService.markTaken(seat);
+            queueService.removeFromQueue(reservation.getConcert().getId(), user.getId()); // 입장 슬롯 반환
+            queueWaitTimeEstimator.recordCheckout(reservation.getConcert().getId());
 
             log.info("[결제 성공] User: {}, Seat: {}, TransactionId: {}",
                     user.getId(), seat.getId(), transactionId);
@@ -161,10 +183,13 @@ public class PaymentService {
         } else {
             payment.updateStatus(PaymentStatus.FAILED); // 결제 실패
             reservation.updateStatus(ReservationStatus.FAILED); // 예약 실패
+            seatInventoryService.markFree(seat); // 잔여 좌석 복구
+            seatAvailabilityIndex.markReserved(seat, false);
 
             log.warn("[결제 실패] User: {}, Seat: {}, TransactionId: {}",
                     user.getId(), seat.getId(), transactionId);
         }
+        seatMapService.recordChange(seat.getConcert().getId(), List.of(seat.getId()));
 
         // Redis 락 해제 (성공/실패 관계없이)
         cleanupRedisLock(reservation, paymentSuccess ? "결제 성공" : "결제 실패");
@@ -187,6 +212,8 @@ public class PaymentService {
             // 락 소유권 확인 후 해제
             if (lockUserId != null && lockUserId.equals(String.valueOf(user.getId()))) {
                 redisTemplate.delete(redisKey);
+                seatAvailabilityIndex.markHeld(reservationSeat.getSeat(), false);
+                seatMapService.recordChange(reservation.getConcert().getId(), List.of(reservationSeat.getSeat().getId()));
                 log.info("[Redis 좌석 락 해제] Reason: {}, User: {}, Seat: {}",
                         reason, user.getId(), reservationSeat.getSeat().getId());
             } else if (lockUserId == null) {
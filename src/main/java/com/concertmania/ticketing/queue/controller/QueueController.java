@@ -2,16 +2,21 @@ package com.concertmania.ticketing.queue.controller;
 
 
 import com.concertmania.ticketing.queue.docs.QueueControllerDocs;
+import com.concertmania.ticketing.queue.dto.QueueLaneAccessRequest;
 import com.concertmania.ticketing.queue.dto.QueueRegisterResponse;
-import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.queue.dto.QueueRequest;
+import com.concertmania.ticketing.queue.dto.QueueWatermarkResponse;
 import com.concertmania.ticketing.queue.service.QueueService;
+import com.concertmania.ticketing.queue.service.QueueSnapshotService;
+import com.concertmania.ticketing.queue.service.QueueStreamService;
+import com.concertmania.ticketing.queue.service.QueueWatermarkService;
 import com.concertmania.ticketing.utils.exception.CustomException;
 import com.concertmania.ticketing.utils.exception.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +25,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/queue")
@@ -29,13 +35,18 @@ import java.util.concurrent.CompletableFuture;
 public class QueueController implements QueueControllerDocs {
 
     private final QueueService queueService;
+    private final QueueStreamService queueStreamService;
+    private final QueueWatermarkService queueWatermarkService;
+    private final QueueSnapshotService queueSnapshotService;
 
     @PostMapping("")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<QueueRegisterResponse> registerToQueue(@Valid @RequestBody QueueRequest queueRequest,
+                                                                 @RequestHeader(value = QueueService.DEVICE_ID_HEADER, required = false) String deviceId,
                                                                  @AuthenticationPrincipal User user) {
         try {
-            QueueRegisterResponse result = queueService.registerToQueue(queueRequest.getConcertId(), user);
+            QueueRegisterResponse result = queueService.registerToQueue(queueRequest.getConcertId(), user,
+                    queueRequest.getLane(), deviceId);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("[대기열] 등록 실패", e);
@@ -43,43 +54,45 @@ public class QueueController implements QueueControllerDocs {
         }
     }
 
-    // SSE 엔드포인트 - 실시간 순번 스트리밍
+    // SSE 엔드포인트 - 실시간 순번 스트리밍 (콘서트별 브로드캐스터에 등록, EventSource 는 헤더를 못 보내므로 기기 ID 는 쿼리로 받음)
     @GetMapping(value = "/{concertId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @PreAuthorize("hasRole('USER')")
     public SseEmitter streamQueueStatus(@PathVariable Long concertId,
+                                        @RequestParam(required = false) String deviceId,
                                         @AuthenticationPrincipal User user) {
-        SseEmitter emitter = new SseEmitter(0L); // 무제한 타임아웃
-
-        // 비동기로 데이터 전송
-        CompletableFuture.runAsync(() -> {
-            try {
-                while (true) {
-                    QueueStatusResponse response = queueService.getQueueStatus(concertId, user.getId());
-
-                    if (response.getPosition() > 0) {
-                        emitter.send(SseEmitter.event()
-                                .name("queue-update")
-                                .data(response));
-                    } else {
-                        // 대기열에 없으면 연결 종료
-                        emitter.send(SseEmitter.event()
-                                .name("queue-complete")
-                                .data(response));
-                        emitter.complete();
-                        break;
-                    }
+        return queueStreamService.subscribe(concertId, user.getId(), deviceId);
+    }
 
-                    Thread.sleep(3000); // 3초마다 업데이트
-                }
-            } catch (Exception e) {
-                log.error("SSE 스트리밍 오류", e);
-                emitter.completeWithError(e);
-            }
-        });
+    // 워터마크 조회 - 모든 대기자에게 같은 값이므로 사용자별 순번 조회 없이 대략 순번 계산에 사용
+    @GetMapping("/{concertId}/watermark")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<QueueWatermarkResponse> getWatermark(@PathVariable Long concertId) {
+        return ResponseEntity.ok(QueueWatermarkResponse.builder()
+                .concertId(concertId)
+                .watermarks(queueWatermarkService.getWatermarks(concertId))
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
 
-        emitter.onCompletion(() -> log.info("SSE 연결 완료: 콘서트 {}, 사용자 {}", concertId, user.getId()));
-        emitter.onTimeout(() -> log.info("SSE 연결 타임아웃: 콘서트 {}, 사용자 {}", concertId, user.getId()));
+    // 공개 스냅샷 - 인증 없이 조회, 리버스 프록시 캐시 대상 (If-None-Match 가 ETag 와 같으면 Spring MVC 가 304 로 응답)
+    @GetMapping(value = "/{concertId}/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSnapshot(@PathVariable Long concertId) {
+        QueueSnapshotService.Snapshot snapshot = queueSnapshotService.getSnapshot(concertId);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMillis(Math.max(queueSnapshotService.getRefreshMs(), 1000)))
+                        .cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
 
-        return emitter;
+    // 레인 등록 허용 명단 추가 (선예매/팬클럽)
+    @PostMapping("/{concertId}/lanes/{lane}/members")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> grantLaneAccess(@PathVariable Long concertId,
+                                                @PathVariable String lane,
+                                                @Valid @RequestBody QueueLaneAccessRequest request) {
+        queueService.grantLaneAccess(concertId, lane, request.getUserIds());
+        return ResponseEntity.ok().build();
     }
 }
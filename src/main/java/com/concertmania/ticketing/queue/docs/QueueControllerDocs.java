@@ -1,8 +1,12 @@
 package com.concertmania.ticketing.queue.docs;
 
+import com.concertmania.ticketing.queue.dto.QueueLaneAccessRequest;
 import com.concertmania.ticketing.queue.dto.QueueRegisterResponse;
 import com.concertmania.ticketing.queue.dto.QueueRequest;
+import com.concertmania.ticketing.queue.dto.QueueSnapshotResponse;
 import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
+import com.concertmania.ticketing.queue.dto.QueueWatermarkResponse;
+import com.concertmania.ticketing.queue.service.QueueService;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.utils.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Queue", description = "대기열 API")
@@ -25,7 +31,9 @@ public interface QueueControllerDocs {
 
     @Operation(
             summary = "대기열 등록",
-            description = "콘서트 대기열에 등록합니다."
+            description = "콘서트 대기열에 등록합니다. lane 을 지정하면 해당 레인에 등록되며, 기본 레인(general) 외의 레인은 등록 허용된 사용자만 가능합니다. " +
+                    "입장은 레인별 가중치 비율로 이루어지고, 순번은 레인 안에서의 순번입니다. " +
+                    "X-Device-Id 헤더를 보내면 처음 등록한 기기가 대기열 항목에 바인딩되며, 다른 탭/기기에서 다시 등록해도 같은 항목을 돌려줍니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -71,13 +79,21 @@ public interface QueueControllerDocs {
     })
     ResponseEntity<QueueRegisterResponse> registerToQueue(
             @Valid @RequestBody QueueRequest queueRequest,
+            @Parameter(description = "기기 ID (영문/숫자/-/_ 64자 이내)", example = "3f2b9c1e-tab")
+            @RequestHeader(value = QueueService.DEVICE_ID_HEADER, required = false) String deviceId,
             @Parameter(hidden = true) @AuthenticationPrincipal User user
     );
 
     @Operation(
             summary = "대기열 상태 실시간 스트리밍",
             description = "SSE(Server-Sent Events)를 통해 실시간으로 대기열 상태를 스트리밍합니다. " +
-                    "3초마다 대기열 정보를 업데이트하며, 대기열에서 제외되면 연결이 종료됩니다."
+                    "대기열이 움직일 때(입장/이탈/추첨) 순번 구간이 바뀐 경우에만 전송하며, 대기열에서 제외되면 연결이 종료됩니다. " +
+                    "순번 100 이하는 한 칸씩, 그 이상은 앞 두 자리 단위로 구간이 나뉩니다. " +
+                    "서버의 최대 연결 수를 초과하면 503을 반환합니다. " +
+                    "같은 사용자의 여러 탭/기기 연결은 서버에서 하나의 구독으로 묶이며, 같은 deviceId 로 다시 연결하면 이전 연결이 종료되고 " +
+                    "사용자당 연결 수를 넘으면 오래된 연결부터 queue-replaced 이벤트와 함께 종료됩니다 (대기열에 등록한 기기는 유지). " +
+                    "STOMP(/ws)로도 구독할 수 있습니다: CONNECT 프레임 Authorization 헤더에 JWT를 담고 " +
+                    "/user/queue/status, /user/queue/admission 을 먼저 구독한 뒤 /topic/queue/{concertId} 를 구독합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -103,11 +119,124 @@ public interface QueueControllerDocs {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "최대 연결 수 초과",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     SseEmitter streamQueueStatus(
             @Parameter(description = "콘서트 ID", example = "1")
             @PathVariable Long concertId,
+            @Parameter(description = "기기 ID (같은 기기의 재연결은 이전 연결을 대체)", example = "3f2b9c1e-tab")
+            @RequestParam(required = false) String deviceId,
             @Parameter(hidden = true) @AuthenticationPrincipal User user
     );
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "대기열 워터마크 조회",
+            description = "레인별로 대기열을 떠난 마지막 대기 번호를 조회합니다. 워터마크 모드에서 주기적으로 갱신되며, " +
+                    "클라이언트는 등록 시 받은 대기 번호와의 차이로 대략적인 순번을 계산할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = QueueWatermarkResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<QueueWatermarkResponse> getWatermark(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId
+    );
+
+    @Operation(
+            summary = "대기열 공개 스냅샷 조회",
+            description = "콘서트의 레인별 진행 위치, 대기 인원, 입장 처리량을 조회합니다. 인증이 필요 없고 모든 사용자에게 같은 내용이며, " +
+                    "서버에서 최대 1초에 한 번 갱신됩니다. ETag / Cache-Control(public) 헤더를 붙이므로 리버스 프록시나 브라우저가 캐시할 수 있고, " +
+                    "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = QueueSnapshotResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "콘서트를 찾을 수 없음",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<byte[]> getSnapshot(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId
+    );
+
+    @Operation(
+            summary = "대기열 레인 등록 허용 (관리자)",
+            description = "선예매/팬클럽 등 레인에 등록할 수 있는 사용자를 추가합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "등록 허용 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "콘서트 또는 레인을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<Void> grantLaneAccess(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Parameter(description = "레인 이름", example = "presale")
+            @PathVariable String lane,
+            @Valid @RequestBody QueueLaneAccessRequest request
+    );
+}
@@ -0,0 +1,20 @@
+package com.concertmania.ticketing.queue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대기열 레인 등록 허용 요청")
+public class QueueLaneAccessRequest {
+
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다.")
+    @Schema(description = "등록을 허용할 사용자 ID 목록", example = "[1, 2, 3]")
+    private List<Long> userIds;
+}
@@ -28,4 +28,13 @@ public class QueueRegisterResponse {
     
     @Schema(description = "응답 메시지", example = "대기열에 등록되었습니다.")
     private String message;
+
+    @Schema(description = "대기열 레인 (대기 중일 때만 포함)", example = "general")
+    private String lane;
+
+    @Schema(description = "대기 번호 (샤드/워터마크 모드에서 포함 - 워터마크와 함께 대략적인 순번 계산에 사용)", example = "48210")
+    private Long ticket;
+
+    @Schema(description = "입장권 (입장 허용 시 발급, 좌석 선택/결제 요청 시 X-Admission-Pass 헤더로 전달)", example = "eyJhbGciOiJIUzUxMiJ9...")
+    private String admissionPass;
 }
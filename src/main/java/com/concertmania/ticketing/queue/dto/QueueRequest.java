@@ -17,4 +17,11 @@ public class QueueRequest {
     @NotNull(message = "콘서트 선택은 필수입니다.")
     @Schema(description = "콘서트 ID", example = "1")
     private Long concertId;
+
+    @Schema(description = "대기열 레인 (선택 - 기본값 general, 그 외 레인은 등록 허용된 사용자만 가능)", example = "presale")
+    private String lane;
+
+    public QueueRequest(Long concertId) {
+        this.concertId = concertId;
+    }
 }
@@ -0,0 +1,31 @@
+package com.concertmania.ticketing.queue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대기열 공개 스냅샷 응답 (캐시 가능)")
+public class QueueSnapshotResponse {
+    @Schema(description = "콘서트 ID", example = "1")
+    private Long concertId;
+
+    @Schema(description = "지금까지 발급된 마지막 대기 번호", example = "52000")
+    private Long lastSequence;
+
+    @Schema(description = "레인별 진행 위치 (이 대기 번호까지는 대기열을 떠남 - 대략 순번 = 내 대기 번호 - 진행 위치)", example = "{\"general\": 48000}")
+    private Map<String, Long> heads;
+
+    @Schema(description = "대기 인원 (모든 레인 합)", example = "4000")
+    private Long depth;
+
+    @Schema(description = "입장 처리량 (명/초)", example = "12.5")
+    private Double admissionRate;
+}
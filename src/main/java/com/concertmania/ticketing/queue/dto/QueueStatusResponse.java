@@ -32,6 +32,21 @@ public class QueueStatusResponse {
     @Schema(description = "입장 가능 여부", example = "false")
     private Boolean canEnter;
     
+    @Schema(description = "추첨 대기실 대기 여부 (예매 오픈 시 무작위 순서로 대기 순번 배정)", example = "false")
+    private Boolean inLobby;
+
     @Schema(description = "타임스탬프", example = "2024-01-01T12:00:00")
     private LocalDateTime timestamp;
+
+    @Schema(description = "대기열 레인 (대기 중일 때만 포함)", example = "general")
+    private String lane;
+
+    @Schema(description = "대기 번호 (샤드/워터마크 모드에서 포함 - 워터마크와 함께 대략적인 순번 계산에 사용)", example = "48210")
+    private Long ticket;
+
+    @Schema(description = "대략적인 순번 여부 (워터마크 기준 계산, 실제 순번보다 클 수 있음)", example = "false")
+    private Boolean approximate;
+
+    @Schema(description = "입장권 (입장 허용 시 발급, 좌석 선택/결제 요청 시 X-Admission-Pass 헤더로 전달)", example = "eyJhbGciOiJIUzUxMiJ9...")
+    private String admissionPass;
 }
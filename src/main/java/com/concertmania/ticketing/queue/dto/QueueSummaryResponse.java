@@ -0,0 +1,25 @@
+package com.concertmania.ticketing.queue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "콘서트 대기열 요약 (STOMP /topic/queue/{concertId})")
+public class QueueSummaryResponse {
+    @Schema(description = "콘서트 ID", example = "1")
+    private Long concertId;
+
+    @Schema(description = "전체 대기열 수", example = "500")
+    private Integer totalQueue;
+
+    @Schema(description = "타임스탬프", example = "2024-01-01T12:00:00")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,26 @@
+package com.concertmania.ticketing.queue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대기열 워터마크 응답")
+public class QueueWatermarkResponse {
+    @Schema(description = "콘서트 ID", example = "1")
+    private Long concertId;
+
+    @Schema(description = "레인별 워터마크 (이 대기 번호까지는 대기열을 떠남 - 대략 순번 = 내 대기 번호 - 워터마크)", example = "{\"general\": 48000}")
+    private Map<String, Long> watermarks;
+
+    @Schema(description = "타임스탬프", example = "2024-01-01T12:00:00")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,44 @@
+package com.concertmania.ticketing.queue.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 멤버십 체크포인트 (Redis 장애 시 대기열 복구용)
+ * 쓰기/조회는 QueueCheckpointRepository 에서 JDBC 배치로 처리하며, 엔티티는 스키마 정의용이다.
+ */
+@Entity
+@Table(name = "queue_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_queue_checkpoint_concert_user", columnNames = {"concert_id", "user_id"}),
+        indexes = @Index(name = "idx_queue_checkpoint_lane_ticket", columnList = "concert_id, lane, ticket"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QueueCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long concertId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String lane;
+
+    @Column(nullable = false)
+    private Long ticket;
+
+    // 대기열 항목이 바인딩된 기기 ID (기기 ID 없이 등록했으면 null)
+    @Column(length = 64)
+    private String deviceId;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+}
@@ -0,0 +1,31 @@
+package com.concertmania.ticketing.queue.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘서트별 대기 번호 시퀀스 체크포인트
+ * lastSequence 는 복구 시 시퀀스 값으로, settledSequence 는 다음 체크포인트의 증분 조회 시작점으로 사용한다.
+ */
+@Entity
+@Table(name = "queue_sequence_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QueueSequenceCheckpoint {
+
+    @Id
+    private Long concertId;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    @Column(nullable = false)
+    private Long settledSequence;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+}
@@ -0,0 +1,43 @@
+package com.concertmania.ticketing.queue.listener;
+
+import com.concertmania.ticketing.queue.service.QueueKeys;
+import com.concertmania.ticketing.queue.service.QueueStompService;
+import com.concertmania.ticketing.queue.service.QueueStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대기열 변경 이벤트 수신 → 이 인스턴스에 연결된 SSE/STOMP 구독자에게 전송 예약
+ */
+@Slf4j
+@Component
+public class QueueEventListener implements MessageListener {
+
+    private final QueueStreamService queueStreamService;
+    private final QueueStompService queueStompService;
+
+    public QueueEventListener(RedisMessageListenerContainer listenerContainer,
+                              QueueStreamService queueStreamService,
+                              QueueStompService queueStompService) {
+        this.queueStreamService = queueStreamService;
+        this.queueStompService = queueStompService;
+        listenerContainer.addMessageListener(this, new ChannelTopic(QueueKeys.EVENTS_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String concertId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            queueStreamService.markChanged(Long.valueOf(concertId));
+            queueStompService.markChanged(Long.valueOf(concertId));
+        } catch (Exception e) {
+            log.error("[대기열 이벤트 처리 실패] Concert: {}", concertId, e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.concertmania.ticketing.queue.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 대기열 체크포인트 저장소 (JDBC 배치 upsert / 스트리밍 조회)
+ * IDENTITY 키 엔티티는 JPA 배치 insert 가 되지 않으므로 JdbcTemplate 으로 직접 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QueueCheckpointRepository {
+
+    private static final String UPSERT_ENTRY_SQL = """
+            INSERT INTO queue_checkpoint (concert_id, user_id, lane, ticket, device_id, checkpointed_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (concert_id, user_id) DO UPDATE
+            SET lane = EXCLUDED.lane, ticket = EXCLUDED.ticket,
+                device_id = COALESCE(EXCLUDED.device_id, queue_checkpoint.device_id),
+                checkpointed_at = EXCLUDED.checkpointed_at
+            WHERE queue_checkpoint.ticket <> EXCLUDED.ticket
+               OR (queue_checkpoint.device_id IS NULL AND EXCLUDED.device_id IS NOT NULL)
+            """;
+
+    // 시퀀스는 줄어들지 않도록 저장 (복구 전 Redis 가 빈 상태에서 읽은 값으로 덮어쓰지 않음)
+    private static final String UPSERT_SEQUENCE_SQL = """
+            INSERT INTO queue_sequence_checkpoint (concert_id, last_sequence, settled_sequence, checkpointed_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (concert_id) DO UPDATE
+            SET last_sequence = GREATEST(queue_sequence_checkpoint.last_sequence, EXCLUDED.last_sequence),
+                settled_sequence = EXCLUDED.settled_sequence,
+                checkpointed_at = EXCLUDED.checkpointed_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기열 멤버 일괄 저장 (이미 같은 대기 번호와 기기 ID로 저장된 멤버는 변경 없음)
+     */
+    public void upsertEntries(List<Entry> entries, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_ENTRY_SQL, entries, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.concertId());
+            ps.setLong(2, entry.userId());
+            ps.setString(3, entry.lane());
+            ps.setLong(4, entry.ticket());
+            ps.setString(5, entry.deviceId());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * 레인 맨 앞보다 앞선 대기 번호 삭제 (입장/이탈로 이미 대기열을 떠난 멤버)
+     */
+    public int deleteBefore(Long concertId, String lane, long ticket) {
+        return jdbcTemplate.update(
+                "DELETE FROM queue_checkpoint WHERE concert_id = ? AND lane = ? AND ticket < ?",
+                concertId, lane, ticket);
+    }
+
+    public void saveSequence(Long concertId, long lastSequence, long settledSequence) {
+        jdbcTemplate.update(UPSERT_SEQUENCE_SQL, concertId, lastSequence, settledSequence,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public Map<Long, SequenceCheckpoint> findSequences() {
+        Map<Long, SequenceCheckpoint> sequences = new HashMap<>();
+        jdbcTemplate.query("SELECT concert_id, last_sequence, settled_sequence FROM queue_sequence_checkpoint", (RowCallbackHandler) rs -> {
+            long concertId = rs.getLong(1);
+            sequences.put(concertId, new SequenceCheckpoint(concertId, rs.getLong(2), rs.getLong(3)));
+        });
+        return sequences;
+    }
+
+    /**
+     * 저장된 모든 멤버를 커서로 읽어 전달 (전체를 메모리에 올리지 않음)
+     * PostgreSQL 은 트랜잭션 안(auto-commit off)에서만 fetchSize 단위 커서 조회를 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public void streamEntries(int fetchSize, Consumer<Entry> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT concert_id, user_id, lane, ticket, device_id FROM queue_checkpoint ORDER BY concert_id, ticket");
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs ->
+                consumer.accept(new Entry(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4), rs.getString(5))));
+    }
+
+    /**
+     * @param deviceId 대기열 항목이 바인딩된 기기 ID (없으면 null)
+     */
+    public record Entry(Long concertId, Long userId, String lane, long ticket, String deviceId) {
+    }
+
+    public record SequenceCheckpoint(Long concertId, long lastSequence, long settledSequence) {
+    }
+}
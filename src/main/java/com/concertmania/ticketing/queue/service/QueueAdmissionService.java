@@ -0,0 +1,402 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대기열 입장 스케줄러
+ * 일정 주기마다 콘서트별로 대기열 앞쪽 N명을 입장 허용 목록으로 옮긴다.
+ * 입장 인원은 배치 크기, 후속 처리 용량(최대 동시 입장 인원), 잔여 좌석 수 중 최소값으로 정해진다.
+ * 배치 크기는 백엔드 포화도에 따라 QueueAdmissionThrottle 이 주기마다 조절한다 (설정값은 상한).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueAdmissionService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatInventoryService seatInventoryService;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final QueueEventPublisher queueEventPublisher;
+    private final QueueAdmissionThrottle queueAdmissionThrottle;
+    private final QueueMetrics queueMetrics;
+    private final QueueSchedulerLock queueSchedulerLock;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/queue-admit.lua"), List.class);
+    private static final RedisScript<Long> ADMIT_IMMEDIATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/queue-admit-immediate.lua"), Long.class);
+
+    @Value("${queue.admission.interval-ms:1000}")
+    private long intervalMs;
+
+    @Value("${queue.admission.batch-size:100}")
+    private int batchSize;
+
+    @Value("${queue.admission.max-active-users:1000}")
+    private int maxActiveUsers;
+
+    @Value("${queue.admission.entry-ttl-seconds:600}")
+    private long entryTtlSeconds;
+
+    /**
+     * 입장 처리 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.interval-ms:1000}")
+    public void admitWaitingUsers() {
+        // 여러 인스턴스가 동시에 입장시키지 않도록 주기 단위 락을 얻은 인스턴스에서만 실행
+        queueSchedulerLock.runExclusively(QueueKeys.ADMISSION_LOCK, intervalMs, this::admitActiveConcerts);
+    }
+
+    private void admitActiveConcerts() {
+        Set<String> concertIds = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        if (concertIds == null) {
+            return;
+        }
+
+        int limit = queueAdmissionThrottle.nextBatchSize(batchSize);
+        boolean limited = false;
+        for (String concertId : concertIds) {
+            try {
+                List<String> admitted = admit(Long.valueOf(concertId), limit);
+                limited |= admitted != null && admitted.size() >= limit;
+            } catch (Exception e) {
+                log.error("[대기열 입장] 처리 실패. Concert: {}", concertId, e);
+            }
+        }
+        queueAdmissionThrottle.recordDemand(limited);
+    }
+
+    /**
+     * 콘서트 대기열에서 배치 입장 (설정된 배치 크기)
+     */
+    public List<String> admit(Long concertId) {
+        return admit(concertId, batchSize);
+    }
+
+    /**
+     * 콘서트 대기열에서 배치 입장
+     * @param limit 이번 주기 배치 크기
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> admit(Long concertId, int limit) {
+        long now = System.currentTimeMillis();
+        long freeSeats = seatInventoryService.getFreeSeatCount(concertId);
+
+        // 입장한 사용자의 대기 번호 (대기 시간 지표용)
+        List<Long> tickets = new ArrayList<>();
+        List<String> admitted;
+        if (queueShardRouter.isSharded() || queueLanes.isMultiLane()) {
+            admitted = admitFromLanes(concertId, now, freeSeats, limit, tickets);
+        } else {
+            List<Object> result = redisTemplate.execute(
+                    ADMIT_SCRIPT,
+                    List.of(QueueKeys.queue(concertId), QueueKeys.admitted(concertId), QueueKeys.heartbeat(concertId)),
+                    String.valueOf(now),
+                    String.valueOf(now + entryTtlSeconds * 1000),
+                    String.valueOf(limit),
+                    String.valueOf(maxActiveUsers),
+                    String.valueOf(freeSeats)
+            );
+            admitted = (List<String>) result.get(0);
+            ((List<Object>) result.get(1)).forEach(ticket -> tickets.add(Double.valueOf(ticket.toString()).longValue()));
+
+            // 위치 키와 대기 중인 콘서트 SET 은 대기열 키와 슬롯이 다르므로 스크립트 밖에서 정리
+            deletePositionKeys(concertId, admitted);
+            if ((Long) result.get(2) == 0) {
+                deactivateIfEmpty(concertId);
+            }
+        }
+
+        if (admitted != null && !admitted.isEmpty()) {
+            queueWaitTimeEstimator.recordAdmissions(concertId, admitted.size());
+            queueMetrics.recordAdmissions(concertId, tickets, now);
+            queueEventPublisher.publishChanged(concertId);
+            log.info("[대기열 입장] Concert: {}, 입장 인원: {}, 잔여 좌석: {}", concertId, admitted.size(), freeSeats);
+        }
+        return admitted;
+    }
+
+    /**
+     * 대기 없이 바로 입장 허용 (대기열이 비어 있고 잔여 좌석이 있을 때)
+     * 대기열 확인과 min(배치 크기, 남은 처리 용량, 잔여 좌석 수) 확인, 입장 등록을 하나의 스크립트로 원자적으로 처리한다.
+     * 샤드 모드는 샤드 대기열의 해시 슬롯이 달라 스크립트에 넣지 못하므로 호출 전에 대기열이 비었는지 확인해야 한다.
+     * @return 입장 만료 시각 (ms) - 입장시키지 못했으면 null (대기열에 등록)
+     */
+    public Long admitImmediately(Long concertId, Long userId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + entryTtlSeconds * 1000;
+        long freeSeats = seatInventoryService.getFreeSeatCount(concertId);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(QueueKeys.admitted(concertId));
+        if (!queueShardRouter.isSharded()) {
+            queueLanes.getNames().forEach(lane -> keys.addAll(queueShardRouter.queueKeys(concertId, lane)));
+        }
+        Long admitted = redisTemplate.execute(
+                ADMIT_IMMEDIATE_SCRIPT,
+                keys,
+                String.valueOf(now),
+                String.valueOf(expiresAt),
+                String.valueOf(maxActiveUsers),
+                String.valueOf(freeSeats),
+                userId.toString()
+        );
+        if (!Long.valueOf(1L).equals(admitted)) {
+            return null;
+        }
+
+        queueWaitTimeEstimator.recordAdmissions(concertId, 1);
+        queueMetrics.recordImmediateAdmission(concertId);
+        return expiresAt;
+    }
+
+    /**
+     * 입장 허용 여부 확인
+     */
+    public boolean isAdmitted(Long concertId, Long userId) {
+        return getAdmissionExpiry(concertId, userId) != null;
+    }
+
+    /**
+     * 입장 만료 시각 조회 (ms) - 입장 허용 상태가 아니면 null
+     */
+    public Long getAdmissionExpiry(Long concertId, Long userId) {
+        Double expiresAt = redisTemplate.opsForZSet().score(QueueKeys.admitted(concertId), userId.toString());
+        return expiresAt != null && expiresAt > System.currentTimeMillis() ? expiresAt.longValue() : null;
+    }
+
+    /**
+     * 입장 허용 목록에서 제거 (예매 완료 시)
+     */
+    public void release(Long concertId, Long userId) {
+        redisTemplate.opsForZSet().remove(QueueKeys.admitted(concertId), userId.toString());
+    }
+
+    /**
+     * 샤드/레인 모드 배치 입장
+     * 레인×샤드별 앞쪽 후보를 한 번에 조회하고, DRR 로 레인별 입장 인원을 나눈 뒤 레인 안에서는 대기 번호 순으로 입장시킨다.
+     * 입장 처리는 주기 락을 가진 인스턴스 하나에서만 실행되므로 조회 후 제거 사이에 다른 입장 처리와 겹치지 않으며,
+     * 그 사이 대기열을 떠난 사용자는 ZREM 결과로 걸러낸다.
+     * @param tickets 입장한 사용자의 대기 번호를 담을 목록
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> admitFromLanes(Long concertId, long now, long freeSeats, int limit, List<Long> tickets) {
+        String admittedKey = QueueKeys.admitted(concertId);
+        String deficitKey = QueueKeys.laneDeficit(concertId);
+        List<String> lanes = queueLanes.getNames();
+
+        // 만료된 입장 정리 + 현재 입장 인원 + 레인×샤드별 크기와 앞쪽 후보 + DRR 상태
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().removeRangeByScore(admittedKey, Double.NEGATIVE_INFINITY, now);
+                operations.opsForZSet().zCard(admittedKey);
+                lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane).forEach(key -> {
+                    operations.opsForZSet().zCard(key);
+                    operations.opsForZSet().rangeWithScores(key, 0, limit - 1);
+                }));
+                operations.opsForHash().entries(deficitKey);
+                return null;
+            }
+        });
+
+        long active = (Long) results.get(1);
+        Map<String, Long> laneSizes = new LinkedHashMap<>();
+        Map<String, List<TypedTuple<String>>> candidates = new HashMap<>();
+        int index = 2;
+        for (String lane : lanes) {
+            long size = 0;
+            List<TypedTuple<String>> laneCandidates = new ArrayList<>();
+            for (int shard = 0; shard < queueShardRouter.getShardCount(); shard++) {
+                size += (Long) results.get(index++);
+                laneCandidates.addAll((Set<TypedTuple<String>>) results.get(index++));
+            }
+            laneCandidates.sort(Comparator.comparingDouble(TypedTuple::getScore));
+            laneSizes.put(lane, size);
+            candidates.put(lane, laneCandidates);
+        }
+        Map<Object, Object> deficitState = (Map<Object, Object>) results.get(index);
+
+        if (laneSizes.values().stream().allMatch(size -> size == 0)) {
+            deactivateIfEmpty(concertId);
+            return List.of();
+        }
+
+        long count = Math.min(limit, Math.min(maxActiveUsers - active, freeSeats));
+        if (count <= 0) {
+            return List.of();
+        }
+
+        Map<String, Long> quotas = queueLanes.isMultiLane()
+                ? allocateByDeficit(deficitKey, laneSizes, count, deficitState)
+                : Map.of(QueueLanes.DEFAULT_LANE, count);
+
+        // 레인별 배분 인원만큼 레인 앞쪽부터 선택
+        List<String> selected = new ArrayList<>();
+        List<String> selectedLanes = new ArrayList<>();
+        List<Long> selectedTickets = new ArrayList<>();
+        quotas.forEach((lane, quota) -> candidates.get(lane).stream()
+                .limit(quota)
+                .forEach(candidate -> {
+                    selected.add(candidate.getValue());
+                    selectedLanes.add(lane);
+                    selectedTickets.add(candidate.getScore().longValue());
+                }));
+
+        List<Object> removed = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (int i = 0; i < selected.size(); i++) {
+                    String member = selected.get(i);
+                    operations.opsForZSet()
+                            .remove(queueShardRouter.queueKeyOf(concertId, Long.valueOf(member), selectedLanes.get(i)), member);
+                }
+                return null;
+            }
+        });
+
+        List<String> admitted = new ArrayList<>();
+        for (int i = 0; i < selected.size(); i++) {
+            if (Long.valueOf(1L).equals(removed.get(i))) {
+                admitted.add(selected.get(i));
+                tickets.add(selectedTickets.get(i));
+            }
+        }
+
+        long expiresAt = now + entryTtlSeconds * 1000;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                admitted.forEach(member -> {
+                    Long userId = Long.valueOf(member);
+                    operations.opsForZSet().add(admittedKey, member, expiresAt);
+                    operations.opsForZSet().remove(queueShardRouter.heartbeatKeyOf(concertId, userId), member);
+                    operations.delete(queueShardRouter.positionKey(concertId, userId));
+                });
+                return null;
+            }
+        });
+        return admitted;
+    }
+
+    /**
+     * 입장한 사용자의 위치 키 삭제 (한 번의 왕복)
+     */
+    private void deletePositionKeys(Long concertId, List<String> members) {
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(members.stream()
+                .map(member -> queueShardRouter.positionKey(concertId, Long.valueOf(member)))
+                .toList());
+    }
+
+    /**
+     * DRR(Deficit Round Robin)로 레인별 입장 인원 배분
+     * 차례가 된 레인은 가중치만큼 deficit 을 받고 deficit 이 남는 동안 입장시킨다. 배치가 중간에 끝나면 다음 주기에 같은 레인부터 이어가므로
+     * 주기당 입장 인원이 적어도 장기적으로 가중치 비율이 유지된다. 대기자가 없는 레인은 deficit 을 쌓지 않는다.
+     */
+    private Map<String, Long> allocateByDeficit(String deficitKey, Map<String, Long> laneSizes, long count,
+                                                Map<Object, Object> state) {
+        List<String> lanes = queueLanes.getNames();
+        Map<String, Long> deficits = new HashMap<>();
+        lanes.forEach(lane -> deficits.put(lane, parseLong(state.get(lane))));
+        int next = (int) parseLong(state.get("_next"));
+        if (next >= lanes.size()) {
+            next = 0;
+        }
+        boolean granted = "1".equals(state.get("_granted"));
+
+        Map<String, Long> remaining = new HashMap<>(laneSizes);
+        Map<String, Long> quotas = new LinkedHashMap<>();
+        long budget = count;
+        int idleLanes = 0;
+        while (budget > 0 && idleLanes < lanes.size()) {
+            String lane = lanes.get(next);
+            long waiting = remaining.get(lane);
+            if (waiting == 0) {
+                deficits.put(lane, 0L);
+                next = (next + 1) % lanes.size();
+                granted = false;
+                idleLanes++;
+                continue;
+            }
+            idleLanes = 0;
+
+            long deficit = deficits.get(lane);
+            if (!granted) {
+                deficit += queueLanes.weightOf(lane);
+                granted = true;
+            }
+            long take = Math.min(deficit, Math.min(waiting, budget));
+            quotas.merge(lane, take, Long::sum);
+            remaining.put(lane, waiting - take);
+            budget -= take;
+            deficit = waiting == take ? 0 : deficit - take;
+            deficits.put(lane, deficit);
+
+            if (deficit == 0) {
+                next = (next + 1) % lanes.size();
+                granted = false;
+            }
+        }
+
+        Map<String, String> saved = new HashMap<>();
+        deficits.forEach((lane, deficit) -> saved.put(lane, String.valueOf(deficit)));
+        saved.put("_next", String.valueOf(next));
+        saved.put("_granted", granted ? "1" : "0");
+        redisTemplate.opsForHash().putAll(deficitKey, saved);
+        return quotas;
+    }
+
+    private long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0;
+    }
+
+    /**
+     * 모든 레인/샤드가 비었으면 대기 중인 콘서트 목록에서 제거
+     * 제거 직후 다시 확인해, 그 사이 등록된 사용자가 있으면 목록에 되돌린다.
+     */
+    private void deactivateIfEmpty(Long concertId) {
+        redisTemplate.opsForSet().remove(QueueKeys.ACTIVE_CONCERTS, concertId.toString());
+
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                queueLanes.getNames().forEach(lane -> queueShardRouter.queueKeys(concertId, lane)
+                        .forEach(key -> operations.opsForZSet().zCard(key)));
+                return null;
+            }
+        });
+        if (sizes.stream().anyMatch(size -> size != null && (Long) size > 0)) {
+            redisTemplate.opsForSet().add(QueueKeys.ACTIVE_CONCERTS, concertId.toString());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.concertmania.ticketing.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 백엔드 포화도 기반 입장 배치 크기 조절 (AIMD)
+ * 입장 주기마다 DB 커넥션 풀(Hikari), 좌석 선택/결제 시작 p99 지연, Redis 응답 시간을 확인해
+ * 포화 신호가 있으면 배치 크기를 비율로 줄이고(multiplicative decrease), 없으면서 직전 주기에 배치가 가득 찼으면 일정량 늘린다(additive increase).
+ * 설정된 배치 크기(queue.admission.batch-size)는 상한으로만 사용된다.
+ */
+@Slf4j
+@Component
+public class QueueAdmissionThrottle {
+
+    public static final String SEAT_SELECT_TIMER = "seat.select.latency";
+    public static final String PAYMENT_START_TIMER = "payment.start.latency";
+
+    private static final double REDIS_LATENCY_SMOOTHING = 0.3;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer seatSelectTimer;
+    private final Timer paymentStartTimer;
+    private final AtomicLong currentLimit = new AtomicLong();
+
+    // Redis 응답 시간 지수 이동 평균 (ms)
+    private volatile double redisLatencyMs;
+
+    @Value("${queue.admission.throttle.enabled:false}")
+    private boolean enabled;
+
+    @Value("${queue.admission.throttle.min-batch-size:10}")
+    private int minBatchSize;
+
+    @Value("${queue.admission.throttle.increase-step:10}")
+    private int increaseStep;
+
+    @Value("${queue.admission.throttle.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    @Value("${queue.admission.throttle.decrease-cooldown-ms:5000}")
+    private long decreaseCooldownMs;
+
+    @Value("${queue.admission.throttle.hikari-usage-threshold:0.9}")
+    private double hikariUsageThreshold;
+
+    @Value("${queue.admission.throttle.seat-select-p99-ms:300}")
+    private long seatSelectP99Ms;
+
+    @Value("${queue.admission.throttle.payment-start-p99-ms:500}")
+    private long paymentStartP99Ms;
+
+    @Value("${queue.admission.throttle.redis-latency-ms:20}")
+    private long redisLatencyThresholdMs;
+
+    public QueueAdmissionThrottle(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        // 최근 30초 구간의 p99 를 사용해 부하 변화에 빠르게 반응
+        this.seatSelectTimer = latencyTimer(SEAT_SELECT_TIMER, "좌석 선택 처리 시간");
+        this.paymentStartTimer = latencyTimer(PAYMENT_START_TIMER, "결제 시작 처리 시간");
+        Gauge.builder("queue.admission.limit", currentLimit, AtomicLong::get)
+                .description("현재 주기당 입장 배치 크기")
+                .register(meterRegistry);
+    }
+
+    public <T> T recordSeatSelect(Supplier<T> action) {
+        return seatSelectTimer.record(action);
+    }
+
+    public <T> T recordPaymentStart(Supplier<T> action) {
+        return paymentStartTimer.record(action);
+    }
+
+    /**
+     * 이번 주기 배치 크기 계산 (입장 주기 시작 시 한 번 호출)
+     * @param ceiling 설정된 최대 배치 크기
+     */
+    public int nextBatchSize(int ceiling) {
+        if (!enabled) {
+            currentLimit.set(ceiling);
+            return ceiling;
+        }
+
+        Map<Object, Object> state = redisTemplate.opsForHash().entries(QueueKeys.ADMISSION_THROTTLE);
+        double limit = state.get("limit") != null ? Double.parseDouble(state.get("limit").toString()) : ceiling;
+        boolean limited = "1".equals(state.get("limited"));
+        long decreasedAt = state.get("decreasedAt") != null ? Long.parseLong(state.get("decreasedAt").toString()) : 0;
+        long now = System.currentTimeMillis();
+
+        String signal = saturationSignal();
+        if (signal != null) {
+            // 지연 지표가 회복되기 전에 연속으로 줄이지 않도록 쿨다운 동안은 유지
+            if (now - decreasedAt >= decreaseCooldownMs) {
+                double reduced = Math.max(minBatchSize, limit * decreaseFactor);
+                log.warn("[입장 조절] 포화 신호: {}, 배치 크기 {} → {}", signal, (int) limit, (int) reduced);
+                Counter.builder("queue.admission.throttle.decrease")
+                        .description("포화 신호로 입장 배치 크기를 줄인 횟수")
+                        .tag("signal", signal)
+                        .register(meterRegistry)
+                        .increment();
+                limit = reduced;
+                decreasedAt = now;
+            }
+        } else if (limited) {
+            limit += increaseStep;
+        }
+        limit = Math.max(Math.min(minBatchSize, ceiling), Math.min(limit, ceiling));
+
+        Map<String, String> saved = new HashMap<>();
+        saved.put("limit", String.valueOf(limit));
+        saved.put("limited", "0");
+        saved.put("decreasedAt", String.valueOf(decreasedAt));
+        redisTemplate.opsForHash().putAll(QueueKeys.ADMISSION_THROTTLE, saved);
+
+        currentLimit.set((long) limit);
+        return (int) limit;
+    }
+
+    /**
+     * 이번 주기에 배치 크기만큼 입장시킨 콘서트가 있었는지 기록 - 대기 수요가 있을 때만 배치 크기를 늘린다
+     */
+    public void recordDemand(boolean limited) {
+        if (enabled && limited) {
+            redisTemplate.opsForHash().put(QueueKeys.ADMISSION_THROTTLE, "limited", "1");
+        }
+    }
+
+    /**
+     * 포화 신호 확인 - 포화 상태면 신호 이름, 아니면 null
+     */
+    private String saturationSignal() {
+        double pending = gaugeValue("hikaricp.connections.pending");
+        if (pending > 0) {
+            return "hikari-pending";
+        }
+        double max = gaugeValue("hikaricp.connections.max");
+        if (max > 0 && gaugeValue("hikaricp.connections.active") / max >= hikariUsageThreshold) {
+            return "hikari-active";
+        }
+        if (p99Millis(seatSelectTimer) > seatSelectP99Ms) {
+            return "seat-select-p99";
+        }
+        if (p99Millis(paymentStartTimer) > paymentStartP99Ms) {
+            return "payment-start-p99";
+        }
+        if (measureRedisLatency() > redisLatencyThresholdMs) {
+            return "redis-latency";
+        }
+        return null;
+    }
+
+    private double measureRedisLatency() {
+        long start = System.nanoTime();
+        redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+        double sample = (System.nanoTime() - start) / 1_000_000.0;
+        redisLatencyMs = redisLatencyMs == 0 ? sample
+                : REDIS_LATENCY_SMOOTHING * sample + (1 - REDIS_LATENCY_SMOOTHING) * redisLatencyMs;
+        return redisLatencyMs;
+    }
+
+    private double gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        if (gauge == null || Double.isNaN(gauge.value())) {
+            return 0;
+        }
+        return gauge.value();
+    }
+
+    private double p99Millis(Timer timer) {
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private Timer latencyTimer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(Duration.ofSeconds(30))
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,277 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.queue.repository.QueueCheckpointRepository;
+import com.concertmania.ticketing.queue.repository.QueueCheckpointRepository.Entry;
+import com.concertmania.ticketing.queue.repository.QueueCheckpointRepository.SequenceCheckpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 대기열 체크포인트 / 복구
+ * 주기마다 새로 등록된 대기자(대기 번호 증분, 바인딩 기기 ID 포함)와 시퀀스를 Postgres 에 배치로 저장하고, 입장/이탈로 레인 맨 앞보다 앞선 기록은 삭제한다.
+ * Redis 재시작/장애 조치로 데이터가 사라지면(복구 마커 없음) 시작 시 또는 다음 주기에 체크포인트로 대기열을 재구성한다.
+ * 레인 중간에서 이탈한 대기자는 레인 맨 앞이 지나갈 때까지 기록이 남으므로 복구될 수 있지만, 하트비트가 없어 이탈자 정리로 다시 제거된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueCheckpointService {
+
+    private static final String MARKER_READY = "ready";
+    private static final Duration RESTORE_TIMEOUT = Duration.ofMinutes(10);
+
+    // 소유자 확인 후 만료 연장 (스케줄러 락 반납 스크립트와 같은 동작 - 남은 시간이 양수면 PEXPIRE)
+    private static final RedisScript<Long> RENEW_MARKER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/scheduler-lock-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueCheckpointRepository checkpointRepository;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final QueueSchedulerLock queueSchedulerLock;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${queue.checkpoint.interval-ms:5000}")
+    private long intervalMs;
+
+    @Value("${queue.checkpoint.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${queue.checkpoint.restore-chunk-size:10000}")
+    private int restoreChunkSize;
+
+    /**
+     * 복구 확인 + 체크포인트 저장 (주기 실행 - 애플리케이션 시작 직후 첫 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.checkpoint.interval-ms:5000}")
+    public void checkpointQueues() {
+        queueSchedulerLock.runExclusively(QueueKeys.CHECKPOINT_LOCK, intervalMs, this::restoreOrCheckpoint);
+    }
+
+    private void restoreOrCheckpoint() {
+        // 복구는 락 최대 보유 시간보다 길 수 있으나, 복구 마커로 한 인스턴스에서만 진행된다
+        restoreIfLost();
+        // 복구가 끝나기 전에는 빈 대기열을 기준으로 기록을 지우지 않도록 저장하지 않음
+        if (!MARKER_READY.equals(redisTemplate.opsForValue().get(QueueKeys.CHECKPOINT_MARKER))) {
+            return;
+        }
+
+        Map<Long, SequenceCheckpoint> sequences = checkpointRepository.findSequences();
+        Set<Long> concertIds = new HashSet<>(sequences.keySet());
+        Set<String> active = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        if (active != null) {
+            active.forEach(concertId -> concertIds.add(Long.valueOf(concertId)));
+        }
+
+        for (Long concertId : concertIds) {
+            try {
+                checkpoint(concertId, sequences.get(concertId), active != null && active.contains(concertId.toString()));
+            } catch (Exception e) {
+                log.error("[대기열 체크포인트] 처리 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 콘서트 대기열 체크포인트 저장
+     * @return 저장(갱신 포함)한 대기자 수
+     */
+    public int checkpoint(Long concertId) {
+        return checkpoint(concertId, checkpointRepository.findSequences().get(concertId), true);
+    }
+
+    /**
+     * 증분 조회 범위: 직전 체크포인트보다 한 주기 앞의 시퀀스(settledSequence) 이후 대기 번호
+     * 샤드/추첨 등록은 번호 발급(INCR)과 ZADD 사이에 간격이 있으므로, 직전 주기 범위를 한 번 더 읽어 늦게 추가된 대기자를 놓치지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    private int checkpoint(Long concertId, SequenceCheckpoint previous, boolean active) {
+        // 시퀀스를 먼저 읽음 - 이 값 이하의 번호는 다음 주기까지 ZADD 가 끝난다
+        String value = redisTemplate.opsForValue().get(QueueKeys.sequence(concertId));
+        long sequence = value != null ? Long.parseLong(value) : 0;
+        long scanFrom = previous != null ? previous.settledSequence() : 0;
+
+        // 대기열이 빈 콘서트는 두 주기 연속 변화가 없으면 건너뜀
+        if (!active && previous != null && previous.lastSequence() == sequence && previous.settledSequence() == sequence) {
+            return 0;
+        }
+
+        List<String> lanes = queueLanes.getNames();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane).forEach(key -> {
+                    operations.opsForZSet().rangeByScoreWithScores(key, scanFrom + 1, Double.POSITIVE_INFINITY);
+                    operations.opsForZSet().rangeWithScores(key, 0, 0);
+                }));
+                return null;
+            }
+        });
+
+        List<TypedTuple<String>> members = new ArrayList<>();
+        List<String> memberLanes = new ArrayList<>();
+        Map<String, Long> heads = new HashMap<>();
+        int index = 0;
+        for (String lane : lanes) {
+            long head = sequence + 1; // 빈 레인은 발급된 번호 전체가 지나간 것으로 처리
+            for (int shard = 0; shard < queueShardRouter.getShardCount(); shard++) {
+                for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) results.get(index++)) {
+                    members.add(tuple);
+                    memberLanes.add(lane);
+                }
+                for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) results.get(index++)) {
+                    head = Math.min(head, tuple.getScore().longValue());
+                }
+            }
+            heads.put(lane, head);
+        }
+
+        List<Entry> entries = new ArrayList<>(members.size());
+        if (!members.isEmpty()) {
+            // 위치 키에 저장된 바인딩 기기 ID도 함께 저장 - 복구 후에도 같은 기기로 대기열 항목을 유지
+            List<String> devices = redisTemplate.opsForValue().multiGet(members.stream()
+                    .map(tuple -> queueShardRouter.positionKey(concertId, Long.valueOf(tuple.getValue())))
+                    .toList());
+            for (int i = 0; i < members.size(); i++) {
+                TypedTuple<String> tuple = members.get(i);
+                String device = devices != null ? devices.get(i) : null;
+                entries.add(new Entry(concertId, Long.valueOf(tuple.getValue()), memberLanes.get(i),
+                        tuple.getScore().longValue(), QueueService.UNBOUND.equals(device) ? null : device));
+            }
+            checkpointRepository.upsertEntries(entries, batchSize);
+        }
+        heads.forEach((lane, head) -> checkpointRepository.deleteBefore(concertId, lane, head));
+        checkpointRepository.saveSequence(concertId, sequence, previous != null ? previous.lastSequence() : 0);
+        return entries.size();
+    }
+
+    /**
+     * Redis 데이터 유실 확인 후 복구 - 복구 마커를 먼저 선점한 인스턴스 하나만 복구한다
+     * @return 복구를 실행했으면 true
+     */
+    public boolean restoreIfLost() {
+        String marker = "restoring:" + instanceId;
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(QueueKeys.CHECKPOINT_MARKER, marker, RESTORE_TIMEOUT);
+        if (!Boolean.TRUE.equals(claimed)) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        long restored = rebuild(() -> renewRestoreMarker(marker));
+        redisTemplate.opsForValue().set(QueueKeys.CHECKPOINT_MARKER, MARKER_READY);
+        if (restored > 0) {
+            log.warn("[대기열 복구] Redis 데이터 유실 감지 - 체크포인트로 {}명 복구 ({}ms)",
+                    restored, System.currentTimeMillis() - start);
+        }
+        return true;
+    }
+
+    /**
+     * 체크포인트로 대기열 재구성 (시퀀스 → 대기열/하트비트/위치 키)
+     * 저장된 멤버를 커서로 읽어 청크 단위로 키별 다건 ZADD 파이프라인을 실행한다.
+     * @return 복구한 대기자 수
+     */
+    public long rebuild() {
+        return rebuild(() -> {
+        });
+    }
+
+    /**
+     * @param afterChunk 청크를 복구할 때마다 실행 (복구 마커 만료 연장)
+     */
+    private long rebuild(Runnable afterChunk) {
+        // 시퀀스 복구 - 복구 전에 새로 발급된 번호가 있어도 낮추지 않음
+        checkpointRepository.findSequences().forEach((concertId, checkpoint) -> {
+            String value = redisTemplate.opsForValue().get(QueueKeys.sequence(concertId));
+            long current = value != null ? Long.parseLong(value) : 0;
+            if (current < checkpoint.lastSequence()) {
+                redisTemplate.opsForValue().increment(QueueKeys.sequence(concertId), checkpoint.lastSequence() - current);
+            }
+        });
+
+        double now = System.currentTimeMillis();
+        List<Entry> chunk = new ArrayList<>(restoreChunkSize);
+        long[] restored = {0};
+        checkpointRepository.streamEntries(restoreChunkSize, entry -> {
+            chunk.add(entry);
+            if (chunk.size() >= restoreChunkSize) {
+                restoreChunk(chunk, now);
+                restored[0] += chunk.size();
+                chunk.clear();
+                afterChunk.run();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            restoreChunk(chunk, now);
+            restored[0] += chunk.size();
+        }
+        return restored[0];
+    }
+
+    /**
+     * 복구 마커 만료 연장 - 복구가 마커 TTL 보다 길어져도 다른 인스턴스가 마커를 선점해 겹쳐 복구하지 않도록 한다
+     * 마커를 이미 잃었으면(만료 후 다른 인스턴스가 선점) 복구를 중단해 정상 상태 표시를 덮어쓰지 않는다.
+     */
+    private void renewRestoreMarker(String marker) {
+        Long renewed = redisTemplate.execute(RENEW_MARKER_SCRIPT, List.of(QueueKeys.CHECKPOINT_MARKER),
+                marker, String.valueOf(RESTORE_TIMEOUT.toMillis()));
+        if (!Long.valueOf(1L).equals(renewed)) {
+            throw new IllegalStateException("대기열 복구 마커를 잃어 복구를 중단합니다.");
+        }
+    }
+
+    private void restoreChunk(List<Entry> entries, double now) {
+        Map<String, Set<TypedTuple<String>>> tickets = new HashMap<>();
+        Map<String, Set<TypedTuple<String>>> heartbeats = new HashMap<>();
+        Set<String> concertIds = new HashSet<>();
+        for (Entry entry : entries) {
+            String lane = queueLanes.contains(entry.lane()) ? entry.lane() : QueueLanes.DEFAULT_LANE;
+            String member = entry.userId().toString();
+            tickets.computeIfAbsent(queueShardRouter.queueKeyOf(entry.concertId(), entry.userId(), lane), key -> new HashSet<>())
+                    .add(new DefaultTypedTuple<>(member, (double) entry.ticket()));
+            heartbeats.computeIfAbsent(queueShardRouter.heartbeatKeyOf(entry.concertId(), entry.userId()), key -> new HashSet<>())
+                    .add(new DefaultTypedTuple<>(member, now));
+            concertIds.add(entry.concertId().toString());
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                // 복구 전에 다시 등록한 사용자는 새 번호 유지 (NX)
+                tickets.forEach((key, tuples) -> operations.opsForZSet().addIfAbsent(key, tuples));
+                heartbeats.forEach((key, tuples) -> operations.opsForZSet().add(key, tuples));
+                // 위치 키는 체크포인트된 기기 바인딩으로 복구하고, 복구 전에 다시 등록한 사용자의 위치 키는 유지 (NX)
+                entries.forEach(entry -> operations.opsForValue().setIfAbsent(
+                        queueShardRouter.positionKey(entry.concertId(), entry.userId()),
+                        entry.deviceId() != null ? entry.deviceId() : QueueService.UNBOUND,
+                        QueueKeys.USER_POSITION_TTL));
+                operations.opsForSet().add(QueueKeys.ACTIVE_CONCERTS, concertIds.toArray(new String[0]));
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.concertmania.ticketing.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 변경 이벤트 발행
+ * 입장/이탈/제거/추첨처럼 대기 순번이 움직이는 경우에만 발행하며, 각 인스턴스는 이벤트를 받은 콘서트의 SSE 구독자에게만 상태를 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueEventPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void publishChanged(Long concertId) {
+        try {
+            redisTemplate.convertAndSend(QueueKeys.EVENTS_CHANNEL, concertId.toString());
+        } catch (Exception e) {
+            // 이벤트 유실 시에도 주기 브로드캐스트로 보정되므로 대기열 처리는 계속 진행
+            log.warn("[대기열 이벤트] 발행 실패. Concert: {}", concertId, e);
+        }
+    }
+}
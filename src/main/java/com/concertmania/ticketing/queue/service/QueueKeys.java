@@ -0,0 +1,139 @@
+package com.concertmania.ticketing.queue.service;
+
+import java.time.Duration;
+
+/**
+ * 대기열 관련 Redis 키
+ */
+public final class QueueKeys {
+
+    // 대기 중인 콘서트 ID 목록 (입장 스케줄러 순회 대상)
+    public static final String ACTIVE_CONCERTS = "concert:queue:active";
+
+    // 입장 스케줄러 실행 락 (여러 인스턴스 중 한 곳에서만 실행)
+    public static final String ADMISSION_LOCK = "concert:queue:admission:lock";
+
+    // 이탈자 정리 스케줄러 실행 락
+    public static final String REAPER_LOCK = "concert:queue:reaper:lock";
+
+    // 대기열 변경 이벤트 Pub/Sub 채널 (message: 콘서트 ID)
+    public static final String EVENTS_CHANNEL = "concert:queue:events";
+
+    // 워터마크 갱신 스케줄러 실행 락
+    public static final String WATERMARK_LOCK = "concert:queue:watermark:lock";
+
+    // 추첨 대기 중인 콘서트 ZSET (member: 콘서트 ID, score: 예매 오픈 시각)
+    public static final String LOBBIES = "concert:queue:lobbies";
+
+    // 입장 배치 크기 조절 상태 HASH (limit, limited, decreasedAt) - 입장 락이 다른 인스턴스로 넘어가도 이어서 조절
+    public static final String ADMISSION_THROTTLE = "concert:queue:admission:throttle";
+
+    // 체크포인트 스케줄러 실행 락
+    public static final String CHECKPOINT_LOCK = "concert:queue:checkpoint:lock";
+
+    // 체크포인트 복구 상태 (없음: Redis 데이터 유실 → 복구 필요, restoring: 복구 중, ready: 정상)
+    public static final String CHECKPOINT_MARKER = "concert:queue:checkpoint:marker";
+
+    // 사용자 위치 키 TTL
+    public static final Duration USER_POSITION_TTL = Duration.ofHours(24);
+
+    private static final String QUEUE_KEY = "concert:queue:";
+    private static final String USER_POSITION_KEY = "concert:user:position:";
+    private static final String ADMITTED_KEY = "concert:admitted:";
+    private static final String RATE_KEY = "concert:queue:rate:";
+    private static final String SEQUENCE_KEY = "concert:queue:seq:";
+    private static final String HEARTBEAT_KEY = "concert:queue:heartbeat:";
+    private static final String LOBBY_KEY = "concert:queue:lobby:";
+    private static final String LANE_ACCESS_KEY = "concert:queue:lane-access:";
+    private static final String LANE_DEFICIT_KEY = "concert:queue:drr:";
+    private static final String LANE_SUFFIX = ":lane:";
+    private static final String WATERMARK_KEY = "concert:queue:watermark:";
+    private static final String TICKET_CLOCK_KEY = "concert:queue:clock:";
+
+    private QueueKeys() {
+    }
+
+    // 대기열 ZSET (member: 사용자 ID, score: 대기 번호)
+    public static String queue(Long concertId) {
+        return QUEUE_KEY + concertId;
+    }
+
+    // 샤드 대기열 ZSET - 샤드마다 다른 해시 태그를 사용해 클러스터 노드에 분산
+    public static String queueShard(Long concertId, int shard) {
+        return QUEUE_KEY + "{" + concertId + ":" + shard + "}";
+    }
+
+    // 레인 대기열 ZSET (기본 레인은 queue(concertId) 사용)
+    public static String laneQueue(Long concertId, String lane) {
+        return queue(concertId) + LANE_SUFFIX + lane;
+    }
+
+    // 샤드 레인 대기열 ZSET (샤드 대기열 키와 같은 해시 태그)
+    public static String laneQueueShard(Long concertId, int shard, String lane) {
+        return queueShard(concertId, shard) + LANE_SUFFIX + lane;
+    }
+
+    // 레인 등록 허용 사용자 SET (선예매/팬클럽 등 - 기본 레인은 제한 없음)
+    public static String laneAccess(Long concertId, String lane) {
+        return LANE_ACCESS_KEY + concertId + ":" + lane;
+    }
+
+    // 레인별 DRR 상태 HASH (레인 이름: 남은 deficit, _next: 다음 차례 레인, _granted: 현재 레인 quantum 지급 여부)
+    public static String laneDeficit(Long concertId) {
+        return LANE_DEFICIT_KEY + concertId;
+    }
+
+    // 레인별 워터마크 HASH (레인 이름: 이 대기 번호까지는 대기열을 떠남)
+    public static String watermark(Long concertId) {
+        return WATERMARK_KEY + concertId;
+    }
+
+    // 대기자 하트비트 ZSET (member: 사용자 ID, score: 마지막 확인 시각)
+    public static String heartbeat(Long concertId) {
+        return HEARTBEAT_KEY + concertId;
+    }
+
+    // 샤드 하트비트 ZSET (샤드 대기열 키와 같은 해시 태그)
+    public static String heartbeatShard(Long concertId, int shard) {
+        return HEARTBEAT_KEY + "{" + concertId + ":" + shard + "}";
+    }
+
+    // 추첨 대기실 SET (member: 사용자 ID) - 예매 오픈 시 무작위 순서로 대기열에 배정
+    public static String lobby(Long concertId) {
+        return LOBBY_KEY + concertId;
+    }
+
+    // 콘서트 전역 대기 번호 시퀀스 (INCR)
+    public static String sequence(Long concertId) {
+        return SEQUENCE_KEY + concertId;
+    }
+
+    // 사용자 위치 키 접두사 (Lua 스크립트에서 사용자 ID를 붙여 사용)
+    public static String userPositionPrefix(Long concertId) {
+        return USER_POSITION_KEY + concertId + ":";
+    }
+
+    public static String userPosition(Long concertId, Object userId) {
+        return userPositionPrefix(concertId) + userId;
+    }
+
+    // 샤드 사용자 위치 키 접두사 (샤드 대기열 키와 같은 해시 태그)
+    public static String userPositionShardPrefix(Long concertId, int shard) {
+        return USER_POSITION_KEY + "{" + concertId + ":" + shard + "}:";
+    }
+
+    // 입장 허용 ZSET (member: 사용자 ID, score: 입장 만료 시각)
+    public static String admitted(Long concertId) {
+        return ADMITTED_KEY + concertId;
+    }
+
+    // 대기 번호 시계 ZSET (member: 샘플 시각 ms, score: 그 시각에 발급된 대기 번호) - 대기 시간 지표 계산용
+    public static String ticketClock(Long concertId) {
+        return TICKET_CLOCK_KEY + concertId;
+    }
+
+    // 처리량 누적 카운터 HASH (admitted: 입장 누적, checkout: 결제 완료 누적)
+    public static String rate(Long concertId) {
+        return RATE_KEY + concertId;
+    }
+}
@@ -0,0 +1,74 @@
+package com.concertmania.ticketing.queue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 대기열 레인 설정
+ * 레인별 가중치를 "presale=3,general=1" 형식으로 설정하며, 입장 처리 시 가중치 비율로 레인을 번갈아 입장시킨다 (DRR).
+ * 기본 레인(general)은 항상 존재하고 기존 대기열 키를 그대로 사용한다.
+ */
+@Component
+public class QueueLanes {
+
+    public static final String DEFAULT_LANE = "general";
+
+    private static final Pattern LANE_NAME = Pattern.compile("[a-z0-9-]+");
+
+    // 레인 이름 → 가중치 (설정 순서 = 라운드 로빈 순서)
+    private final Map<String, Integer> weights;
+
+    public QueueLanes(@Value("${queue.lanes:general=1}") String spec) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.trim().split("=");
+            String name = pair[0].trim();
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (!LANE_NAME.matcher(name).matches() || weight < 1) {
+                throw new IllegalArgumentException("invalid queue lane: " + entry);
+            }
+            parsed.put(name, weight);
+        }
+        parsed.putIfAbsent(DEFAULT_LANE, 1);
+        this.weights = Collections.unmodifiableMap(parsed);
+    }
+
+    public boolean isMultiLane() {
+        return weights.size() > 1;
+    }
+
+    public List<String> getNames() {
+        return new ArrayList<>(weights.keySet());
+    }
+
+    public boolean contains(String lane) {
+        return weights.containsKey(lane);
+    }
+
+    public int weightOf(String lane) {
+        return weights.getOrDefault(lane, 0);
+    }
+
+    /**
+     * 대기자가 있는 레인 중 해당 레인이 받는 입장 처리량 비율 (예상 대기 시간 계산용)
+     */
+    public double shareOf(String lane, Map<String, Long> laneSizes) {
+        int total = 0;
+        for (Map.Entry<String, Long> entry : laneSizes.entrySet()) {
+            if (entry.getValue() > 0 || entry.getKey().equals(lane)) {
+                total += weightOf(entry.getKey());
+            }
+        }
+        return total > 0 ? (double) weightOf(lane) / total : 1.0;
+    }
+}
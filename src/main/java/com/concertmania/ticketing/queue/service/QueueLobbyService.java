@@ -0,0 +1,155 @@
+package com.concertmania.ticketing.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 예매 오픈 전 추첨 대기실
+ * 대기실 오픈 시간 ~ 예매 오픈 시간 사이에 등록한 사용자는 도착 순서와 무관하게 오픈 시점에 무작위 순서로 대기 번호를 배정받는다.
+ * 오픈 직전 요청이 몰려도 밀리초 단위 도착 순서 경쟁이 생기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueLobbyService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueEventPublisher queueEventPublisher;
+    private final QueueMetrics queueMetrics;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 추첨 대기실 등록
+     * @return 새로 등록되었으면 true
+     */
+    public boolean join(Long concertId, Long userId, LocalDateTime openTime) {
+        Long added = redisTemplate.opsForSet().add(QueueKeys.lobby(concertId), userId.toString());
+        // 오픈 시각 기준으로 추첨 대상에 등록 (추첨 이후 늦게 등록한 사용자는 다음 주기에 추가로 배정)
+        redisTemplate.opsForZSet().add(QueueKeys.LOBBIES, concertId.toString(), toEpochMilli(openTime));
+        return added != null && added > 0;
+    }
+
+    public boolean isInLobby(Long concertId, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(QueueKeys.lobby(concertId), userId.toString()));
+    }
+
+    public long getLobbySize(Long concertId) {
+        Long size = redisTemplate.opsForSet().size(QueueKeys.lobby(concertId));
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 예매 오픈 시각이 지난 콘서트의 추첨 실행 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.lobby.interval-ms:1000}")
+    public void drawDueLobbies() {
+        Set<String> concertIds = redisTemplate.opsForZSet()
+                .rangeByScore(QueueKeys.LOBBIES, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        if (concertIds == null) {
+            return;
+        }
+
+        for (String concertId : concertIds) {
+            try {
+                draw(Long.valueOf(concertId));
+            } catch (Exception e) {
+                log.error("[추첨] 처리 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 대기실 사용자를 무작위로 섞어 대기열에 배정
+     * 대기실 키를 인스턴스 전용 키로 RENAME 해 한 인스턴스만 추첨하고, 그 이후 등록한 사용자는 새 대기실 키에 쌓인다.
+     * 대기 번호는 전역 시퀀스에서 한 번에 예약하므로 이미 대기열에 있는 사용자 뒤에 배정된다.
+     * @return 대기열에 배정된 사용자 수
+     */
+    public int draw(Long concertId) {
+        // 대상 목록에서 먼저 제거 - RENAME 이후 등록한 사용자가 목록에 다시 추가해도 지워지지 않도록
+        redisTemplate.opsForZSet().remove(QueueKeys.LOBBIES, concertId.toString());
+
+        String lobbyKey = QueueKeys.lobby(concertId);
+        String drawingKey = lobbyKey + ":drawing:" + instanceId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(lobbyKey))) {
+            return 0;
+        }
+        try {
+            redisTemplate.rename(lobbyKey, drawingKey);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 가져감
+            return 0;
+        }
+
+        Set<String> members = redisTemplate.opsForSet().members(drawingKey);
+        if (members == null || members.isEmpty()) {
+            redisTemplate.delete(drawingKey);
+            return 0;
+        }
+
+        List<String> users = new ArrayList<>(members);
+        Collections.shuffle(users, random);
+
+        // 대기 번호 일괄 예약: (last - n, last]
+        long last = redisTemplate.opsForValue().increment(QueueKeys.sequence(concertId), users.size());
+        long first = last - users.size() + 1;
+
+        double now = System.currentTimeMillis();
+        Map<Integer, Set<TypedTuple<String>>> tickets = new HashMap<>();
+        Map<Integer, Set<TypedTuple<String>>> heartbeats = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            String userId = users.get(i);
+            int shard = queueShardRouter.shardOf(Long.valueOf(userId));
+            tickets.computeIfAbsent(shard, s -> new HashSet<>()).add(new DefaultTypedTuple<>(userId, (double) (first + i)));
+            heartbeats.computeIfAbsent(shard, s -> new HashSet<>()).add(new DefaultTypedTuple<>(userId, now));
+        }
+
+        // 샤드별 다건 ZADD 한 번 + 위치 키 저장을 하나의 파이프라인으로 처리
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                tickets.forEach((shard, tuples) -> {
+                    operations.opsForZSet().addIfAbsent(queueShardRouter.queueKey(concertId, shard), tuples);
+                    operations.opsForZSet().add(queueShardRouter.heartbeatKey(concertId, shard), heartbeats.get(shard));
+                });
+                users.forEach(userId -> operations.opsForValue().set(
+                        queueShardRouter.positionKey(concertId, Long.valueOf(userId)), "registered", QueueKeys.USER_POSITION_TTL));
+                operations.opsForSet().add(QueueKeys.ACTIVE_CONCERTS, concertId.toString());
+                operations.delete(drawingKey);
+                return null;
+            }
+        });
+
+        queueMetrics.recordArrivals(concertId, first, users.size());
+        queueEventPublisher.publishChanged(concertId);
+        log.info("[추첨] Concert: {}, 대기열 배정: {}명, 대기 번호: {} ~ {}", concertId, users.size(), first, last);
+        return users.size();
+    }
+
+    private double toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,264 @@
+package com.concertmania.ticketing.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 분석 지표 (Micrometer)
+ * 콘서트별 도착/입장/이탈 카운터, 대기열 길이 게이지, 대기 시간 히스토그램을 기록한다.
+ * 대기열 ZSET 의 score 는 대기 번호이므로, 대기 번호 → 등록 시각을 초 단위로 샘플링한 시계 ZSET 으로 대기 시간을 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueMetrics {
+
+    public static final String OUTCOME_ADMITTED = "admitted";
+    public static final String OUTCOME_REMOVED = "removed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final MeterRegistry meterRegistry;
+
+    // 콘서트별 지표 (요청마다 레지스트리 조회를 하지 않도록 캐시)
+    private final Map<Long, ConcertMeters> meters = new ConcurrentHashMap<>();
+
+    @Value("${queue.metrics.clock-resolution-ms:1000}")
+    private long clockResolutionMs;
+
+    @Value("${queue.metrics.max-wait-hours:6}")
+    private long maxWaitHours;
+
+    /**
+     * 대기열 등록 기록 - 시계 샘플 간격이 지났으면 대기 번호와 현재 시각을 시계에 남긴다
+     */
+    public void recordArrival(Long concertId, long ticket) {
+        recordArrivals(concertId, ticket, 1);
+    }
+
+    /**
+     * 대기 번호 일괄 배정 기록 (추첨 대기실 배정)
+     * @param firstTicket 배정된 첫 대기 번호
+     */
+    public void recordArrivals(Long concertId, long firstTicket, int count) {
+        ConcertMeters concert = metersOf(concertId);
+        concert.arrivals.increment(count);
+
+        long now = System.currentTimeMillis();
+        long last = concert.lastClockSample.get();
+        if (now - last < clockResolutionMs || !concert.lastClockSample.compareAndSet(last, now)) {
+            return;
+        }
+        String clockKey = QueueKeys.ticketClock(concertId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().add(clockKey, String.valueOf(now), firstTicket);
+                operations.expire(clockKey, QueueKeys.USER_POSITION_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 입장 기록 - 입장한 대기 번호의 대기 시간을 히스토그램에 기록
+     */
+    public void recordAdmissions(Long concertId, Collection<Long> tickets, long now) {
+        metersOf(concertId).admissions.increment(tickets.size());
+        recordTimeInQueue(concertId, tickets, now, OUTCOME_ADMITTED);
+    }
+
+    /**
+     * 대기 없이 바로 입장 기록 (대기 시간 0)
+     */
+    public void recordImmediateAdmission(Long concertId) {
+        ConcertMeters concert = metersOf(concertId);
+        concert.admissions.increment();
+        concert.timeInQueue(OUTCOME_ADMITTED).record(Duration.ZERO);
+    }
+
+    /**
+     * 이탈 기록 (하트비트 만료로 대기열에서 제거)
+     */
+    public void recordAbandoned(Long concertId, long count) {
+        metersOf(concertId).abandoned.increment(count);
+    }
+
+    /**
+     * 대기열에서 빠진 대기 번호들의 대기 시간 기록
+     * 대기 번호 범위에 해당하는 시계 샘플을 한 번의 왕복으로 조회하고, 각 대기 번호보다 작거나 같은 가장 가까운 샘플 시각을 등록 시각으로 본다.
+     * 시계 샘플이 없으면 (Redis 복구 직후 등) 기록하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public void recordTimeInQueue(Long concertId, Collection<Long> tickets, long now, String outcome) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        long min = tickets.stream().mapToLong(Long::longValue).min().getAsLong();
+        long max = tickets.stream().mapToLong(Long::longValue).max().getAsLong();
+        String clockKey = QueueKeys.ticketClock(concertId);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().reverseRangeByScoreWithScores(clockKey, Double.NEGATIVE_INFINITY, min, 0, 1);
+                operations.opsForZSet().rangeByScoreWithScores(clockKey, min, max);
+                return null;
+            }
+        });
+
+        // 대기 번호 → 등록 시각
+        TreeMap<Long, Long> clock = new TreeMap<>();
+        for (Object samples : results) {
+            for (TypedTuple<String> sample : (Set<TypedTuple<String>>) samples) {
+                clock.merge(sample.getScore().longValue(), Long.valueOf(sample.getValue()), Math::min);
+            }
+        }
+        if (clock.isEmpty()) {
+            return;
+        }
+
+        Timer timer = metersOf(concertId).timeInQueue(outcome);
+        for (Long ticket : tickets) {
+            Map.Entry<Long, Long> arrival = clock.floorEntry(ticket);
+            if (arrival != null) {
+                timer.record(Math.max(now - arrival.getValue(), 0), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 콘서트의 대기열 길이 갱신 (주기 실행)
+     * 모든 인스턴스가 같은 값을 보도록 입장 처리와 무관하게 각 인스턴스에서 조회한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.metrics.depth-interval-ms:5000}")
+    public void sampleDepth() {
+        Set<String> activeConcerts = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        List<Long> concertIds = new ArrayList<>();
+        if (activeConcerts != null) {
+            activeConcerts.forEach(concertId -> concertIds.add(Long.valueOf(concertId)));
+        }
+        // 대기가 끝난 콘서트는 0으로
+        meters.forEach((concertId, concert) -> {
+            if (!concertIds.contains(concertId)) {
+                concert.depth.set(0);
+            }
+        });
+        if (concertIds.isEmpty()) {
+            return;
+        }
+
+        List<String> lanes = queueLanes.getNames();
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                concertIds.forEach(concertId -> lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane)
+                        .forEach(key -> operations.opsForZSet().zCard(key))));
+                return null;
+            }
+        });
+
+        int keysPerConcert = lanes.size() * queueShardRouter.getShardCount();
+        for (int i = 0; i < concertIds.size(); i++) {
+            long depth = 0;
+            for (int j = 0; j < keysPerConcert; j++) {
+                depth += (Long) sizes.get(i * keysPerConcert + j);
+            }
+            metersOf(concertIds.get(i)).depth.set(depth);
+        }
+    }
+
+    public long getDepth(Long concertId) {
+        ConcertMeters concert = meters.get(concertId);
+        return concert != null ? concert.depth.get() : 0;
+    }
+
+    private ConcertMeters metersOf(Long concertId) {
+        return meters.computeIfAbsent(concertId, this::register);
+    }
+
+    private ConcertMeters register(Long concertId) {
+        String tag = concertId.toString();
+        ConcertMeters concert = new ConcertMeters(
+                concertId,
+                Counter.builder("queue.arrivals")
+                        .description("대기열 등록 수")
+                        .tag("concertId", tag)
+                        .register(meterRegistry),
+                Counter.builder("queue.admissions")
+                        .description("입장 허용 수")
+                        .tag("concertId", tag)
+                        .register(meterRegistry),
+                Counter.builder("queue.abandoned")
+                        .description("하트비트가 끊겨 대기열에서 제거된 사용자 수")
+                        .tag("concertId", tag)
+                        .register(meterRegistry)
+        );
+        Gauge.builder("queue.depth", concert.depth, AtomicLong::get)
+                .description("대기열 길이 (모든 레인/샤드 합)")
+                .tag("concertId", tag)
+                .register(meterRegistry);
+        return concert;
+    }
+
+    private Timer buildTimeInQueue(Long concertId, String outcome) {
+        return Timer.builder("queue.time.in.queue")
+                .description("등록부터 대기열을 떠날 때까지 걸린 시간")
+                .tag("concertId", concertId.toString())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofHours(maxWaitHours))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 콘서트별 지표 묶음
+     */
+    private class ConcertMeters {
+        private final Counter arrivals;
+        private final Counter admissions;
+        private final Counter abandoned;
+        private final AtomicLong depth = new AtomicLong();
+        private final AtomicLong lastClockSample = new AtomicLong();
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Long concertId;
+
+        ConcertMeters(Long concertId, Counter arrivals, Counter admissions, Counter abandoned) {
+            this.concertId = concertId;
+            this.arrivals = arrivals;
+            this.admissions = admissions;
+            this.abandoned = abandoned;
+        }
+
+        Timer timeInQueue(String outcome) {
+            return timers.computeIfAbsent(outcome, o -> buildTimeInQueue(concertId, o));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
+
+/**
+ * 대기열 실시간 전송(SSE/STOMP)용 순번 구간
+ * 순번 구간이 바뀐 경우에만 전송해 대기자 수에 비례하는 전송량을 줄인다.
+ */
+public final class QueueRankBuckets {
+
+    private static final int EXACT_RANK_LIMIT = 100; // 이 순번까지는 한 칸씩 전송
+
+    private QueueRankBuckets() {
+    }
+
+    /**
+     * 순번 → 구간 (100 이하는 한 칸씩, 그 이상은 앞 두 자리 단위 - 약 1~10% 간격)
+     */
+    public static long bucketOf(long position) {
+        if (position <= EXACT_RANK_LIMIT) {
+            return position;
+        }
+        long step = 1;
+        while (position / step >= EXACT_RANK_LIMIT) {
+            step *= 10;
+        }
+        return position / step * step;
+    }
+
+    /**
+     * 마지막 전송 상태와 비교할 구독자 상태 (순번 구간 + 추첨 대기실 여부)
+     */
+    public static String stateOf(QueueStatusResponse response) {
+        return bucketOf(response.getPosition()) + ":" + response.getInLobby();
+    }
+}
@@ -0,0 +1,118 @@
+package com.concertmania.ticketing.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대기열 이탈자 정리 스케줄러
+ * SSE 연결/상태 조회로 갱신되는 하트비트가 일정 시간 이상 끊긴 대기자를 배치 단위로 대기열에서 제거한다.
+ * 한 주기에 처리하는 양은 (배치 크기 × 최대 배치 수)로 제한되어 Redis 를 오래 점유하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueReaperService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final QueueEventPublisher queueEventPublisher;
+    private final QueueMetrics queueMetrics;
+    private final QueueSchedulerLock queueSchedulerLock;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/queue-reap.lua"), List.class);
+
+    @Value("${queue.reaper.interval-ms:10000}")
+    private long intervalMs;
+
+    @Value("${queue.reaper.heartbeat-timeout-seconds:60}")
+    private long heartbeatTimeoutSeconds;
+
+    @Value("${queue.reaper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${queue.reaper.max-batches:20}")
+    private int maxBatches;
+
+    /**
+     * 이탈자 정리 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.reaper.interval-ms:10000}")
+    public void reapStaleEntries() {
+        queueSchedulerLock.runExclusively(QueueKeys.REAPER_LOCK, intervalMs, this::reapActiveConcerts);
+    }
+
+    private void reapActiveConcerts() {
+        Set<String> concertIds = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        if (concertIds == null) {
+            return;
+        }
+
+        for (String concertId : concertIds) {
+            try {
+                reap(Long.valueOf(concertId));
+            } catch (Exception e) {
+                log.error("[대기열 정리] 처리 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 콘서트 대기열에서 하트비트가 끊긴 대기자 제거
+     * @return 대기열에서 제거된 사용자 수
+     */
+    @SuppressWarnings("unchecked")
+    public long reap(Long concertId) {
+        long cutoff = System.currentTimeMillis() - heartbeatTimeoutSeconds * 1000;
+        long abandoned = 0;
+
+        for (int shard = 0; shard < queueShardRouter.getShardCount(); shard++) {
+            // 하트비트 키 + 같은 샤드의 레인별 대기열 키
+            List<String> keys = new ArrayList<>();
+            keys.add(queueShardRouter.heartbeatKey(concertId, shard));
+            for (String lane : queueLanes.getNames()) {
+                keys.add(queueShardRouter.queueKey(concertId, shard, lane));
+            }
+
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<Object> result = redisTemplate.execute(
+                        REAP_SCRIPT,
+                        keys,
+                        String.valueOf(cutoff),
+                        String.valueOf(batchSize)
+                );
+                List<String> stale = (List<String>) result.get(0);
+                abandoned += (Long) result.get(1);
+
+                // 위치 키는 스크립트에 선언하지 않은 키이므로 반환된 사용자 ID로 스크립트 밖에서 삭제
+                if (!stale.isEmpty()) {
+                    redisTemplate.delete(stale.stream()
+                            .map(member -> queueShardRouter.positionKey(concertId, Long.valueOf(member)))
+                            .toList());
+                }
+                if (stale.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+
+        if (abandoned > 0) {
+            queueMetrics.recordAbandoned(concertId, abandoned);
+            queueEventPublisher.publishChanged(concertId);
+            log.info("[대기열 정리] Concert: {}, 이탈 처리: {}", concertId, abandoned);
+        }
+        return abandoned;
+    }
+}
@@ -0,0 +1,60 @@
+package com.concertmania.ticketing.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주기 작업 락 (입장/이탈자 정리/워터마크/체크포인트/잔여 좌석 보정 스케줄러)
+ * 여러 인스턴스 중 한 곳에서만, 주기마다 한 번만 실행되도록 한다.
+ * 락은 최대 실행 시간(lease) 동안 잡아 두어 실행이 주기보다 길어져도 다른 인스턴스가 겹쳐 실행하지 않고,
+ * 실행이 끝나면 자신의 락일 때만 남은 주기 시간으로 만료를 줄인다 (주기당 한 번 실행 유지, 다른 인스턴스의 락은 건드리지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueSchedulerLock {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/scheduler-lock-release.lua"), Long.class);
+
+    @Value("${queue.scheduler.lock-lease-ms:60000}")
+    private long leaseMs;
+
+    /**
+     * 락을 얻으면 작업 실행
+     * @param intervalMs 작업 주기 - 작업이 일찍 끝나도 주기 시작 후 이 시간 동안은 다른 인스턴스가 실행하지 않는다
+     * @return 실행 여부 (다른 인스턴스가 실행 중이거나 이번 주기에 이미 실행했으면 false)
+     */
+    public boolean runExclusively(String lockKey, long intervalMs, Runnable task) {
+        long startedAt = System.currentTimeMillis();
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, instanceId, Duration.ofMillis(Math.max(leaseMs, intervalMs)));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+
+        try {
+            task.run();
+        } finally {
+            long remaining = startedAt + intervalMs - System.currentTimeMillis();
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), instanceId, String.valueOf(remaining));
+            if (!Long.valueOf(1L).equals(released)) {
+                log.warn("[스케줄러 락] 실행 시간이 최대 보유 시간을 넘겨 락을 잃었습니다. Lock: {}, 최대 보유 시간: {}ms", lockKey, leaseMs);
+            }
+        }
+        return true;
+    }
+}
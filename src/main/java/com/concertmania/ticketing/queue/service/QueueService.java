@@ -3,198 +3,579 @@ package com.concertmania.ticketing.queue.service;
 
 import com.concertmania.ticketing.concert.entity.Concert;
 import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
 import com.concertmania.ticketing.queue.dto.QueueRegisterResponse;
 import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
-import com.concertmania.ticketing.seat.entity.Seat;
-import com.concertmania.ticketing.seat.repository.SeatRepository;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.utils.exception.CustomException;
 import com.concertmania.ticketing.utils.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueService {
 
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    // 기기 ID 없이 등록한 대기열 항목의 위치 키 값 (체크포인트 복구에서도 사용)
+    static final String UNBOUND = "registered";
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ConcertRepository concertRepository;
-    private final SeatRepository seatRepository;
-    private static final String QUEUE_KEY = "concert:queue:";
-    private static final String USER_POSITION_KEY = "concert:user:position:";
+    private final QueueAdmissionService queueAdmissionService;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final QueueShardRouter queueShardRouter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final QueueLobbyService queueLobbyService;
+    private final QueueLanes queueLanes;
+    private final QueueEventPublisher queueEventPublisher;
+    private final QueueWatermarkService queueWatermarkService;
+    private final QueueMetrics queueMetrics;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REGISTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/queue-register.lua"), List.class);
 
     /**
-     * 대기열에 사용자 등록
+     * 대기열에 사용자 등록 (기본 레인)
      */
     public QueueRegisterResponse registerToQueue(Long concertId, User user) {
-        String queueKey = QUEUE_KEY + concertId;
-        String userPositionKey = USER_POSITION_KEY + concertId + ":" + user.getId();
+        return registerToQueue(concertId, user, QueueLanes.DEFAULT_LANE);
+    }
+
+    /**
+     * 대기열 레인에 사용자 등록 - 기본 레인 외의 레인은 등록 허용 명단에 있는 사용자만 등록할 수 있다
+     */
+    public QueueRegisterResponse registerToQueue(Long concertId, User user, String lane) {
+        return registerToQueue(concertId, user, lane, null);
+    }
+
+    /**
+     * 대기열 등록 + 기기 바인딩 - 처음 등록한 기기가 대기열 항목의 기기로 기록되며, 다른 기기에서 다시 등록해도 같은 항목을 돌려준다
+     */
+    @SuppressWarnings("unchecked")
+    public QueueRegisterResponse registerToQueue(Long concertId, User user, String lane, String deviceId) {
+        String device = normalizeDeviceId(deviceId);
+        String targetLane = lane != null ? lane : QueueLanes.DEFAULT_LANE;
+        if (!queueLanes.contains(targetLane)) {
+            throw new CustomException(ErrorCode.QUEUE_LANE_NOT_FOUND);
+        }
+        if (!QueueLanes.DEFAULT_LANE.equals(targetLane) && !Boolean.TRUE.equals(redisTemplate.opsForSet()
+                .isMember(QueueKeys.laneAccess(concertId, targetLane), user.getId().toString()))) {
+            throw new CustomException(ErrorCode.QUEUE_LANE_FORBIDDEN);
+        }
+
+        String userPositionKey = queueShardRouter.positionKey(concertId, user.getId());
 
         // 콘서트 검증 및 조회
-        concertRepository.findByIdAndDeletedAtIsNull(concertId)
+        Concert concert = concertRepository.findByIdAndDeletedAtIsNull(concertId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_NOT_FOUND));
 
-        // 해당 콘서트의 예약 가능한 좌석 목록 조회
-        List<Seat> seats = seatRepository.findByAvailableSeat(concertId);
-
-        // 레디스에서 예약 가능한 좌석 목록중 선점된 좌석 확인
-        boolean hasAvailableSeats = false;
-        if (!seats.isEmpty()) {
-            for (Seat seat : seats) {
-                String seatLockKey = "seat_lock:" + seat.getId();
-                // 선점되지 않은 좌석이 있는지 확인
-                if (!redisTemplate.hasKey(seatLockKey)) {
-                    hasAvailableSeats = true;
-                    break;
-                }
-            }
+        // 추첨 대기실 운영 중이면 대기실에 등록 (예매 오픈 시 무작위 순서로 기본 레인에 배정)
+        LocalDateTime now = LocalDateTime.now();
+        if (concert.getLobbyOpenTime() != null && now.isBefore(concert.getLobbyOpenTime())) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_OPEN_YET);
+        }
+        if (concert.isLobbyOpen(now) && QueueLanes.DEFAULT_LANE.equals(targetLane)) {
+            boolean joined = queueLobbyService.join(concertId, user.getId(), concert.getOpenTime());
+            return QueueRegisterResponse.builder()
+                    .concertId(concertId)
+                    .userId(user.getId())
+                    .position(0L)
+                    .isRegister(joined)
+                    .message(joined
+                            ? "추첨 대기실에 등록되었습니다. 예매 오픈 시 무작위 순서로 대기 순번이 배정됩니다."
+                            : "이미 추첨 대기실에 등록되어 있습니다.")
+                    .build();
         }
 
-        // 예약 가능한 좌석이 없거나 모든 좌석이 선점된 경우에만 대기열에 등록
-        if (seats.isEmpty() || !hasAvailableSeats) {
-            // 이미 대기열에 있는지 확인
-            if (redisTemplate.hasKey(userPositionKey)) {
-                Long position = getCurrentPosition(concertId, user.getId());
+        // 대기자가 없고 입장 가능 인원(처리 용량, 잔여 좌석)이 남아 있으면 대기 없이 바로 입장 - 확인과 입장은 스크립트에서 원자적으로 처리
+        if (getQueueSize(concertId) == 0) {
+            Long expiresAt = queueAdmissionService.admitImmediately(concertId, user.getId());
+            if (expiresAt != null) {
                 return QueueRegisterResponse.builder()
                         .concertId(concertId)
                         .userId(user.getId())
-                        .position(position)
+                        .position(0L)
                         .isRegister(false)
-                        .message("이미 대기열에 등록되어 있습니다. 현재 순번: " + position)
+                        .message("예약 가능한 좌석이 있습니다. 좌석을 선택해주세요.")
+                        .admissionPass(issueAdmissionPass(concertId, user.getId(), expiresAt))
                         .build();
             }
+        }
 
-            // 현재 시간을 점수로 하여 대기열에 추가 (FIFO 보장)
-            double score = System.currentTimeMillis();
-            redisTemplate.opsForZSet().add(queueKey, user.getId().toString(), score);
+        // 레인이 여러 개면 다른 레인에 이미 등록되어 있는지 먼저 확인
+        if (queueLanes.isMultiLane()) {
+            Placement existing = locate(concertId, List.of(user.getId())).get(user.getId());
+            if (existing != null) {
+                Long position = positionsOf(concertId, Map.of(user.getId(), existing)).get(user.getId());
+                return alreadyRegistered(concertId, user.getId(), existing.lane(), position,
+                        ticketMode() ? existing.value() : null);
+            }
+        }
 
-            // 사용자별 위치 정보 저장 (빠른 조회를 위해)
-            redisTemplate.opsForValue().set(userPositionKey, "registered", Duration.ofHours(24));
+        // 중복 확인, 등록, 위치 키 저장, 순번 조회를 하나의 스크립트로 원자적으로 처리 (대기 번호는 스크립트 밖에서 발급)
+        List<Object> result = register(concertId, user.getId(), userPositionKey, targetLane, device);
 
-            // 현재 순번 조회
-            Long position = getCurrentPosition(concertId, user.getId());
+        boolean registered = (Long) result.get(0) == 1L;
+        long ticket = Long.parseLong(result.get(2).toString());
+        Long position = queueShardRouter.isSharded()
+                ? globalPositions(concertId, targetLane, Map.of(0L, ticket)).get(0L)
+                : (Long) result.get(1);
 
-            log.info("사용자 {}가 콘서트 {} 대기열에 등록됨. 순번: {}", user.getId(), concertId, position);
+        if (!registered) {
+            return alreadyRegistered(concertId, user.getId(), targetLane, position, ticket);
+        }
 
-            return QueueRegisterResponse.builder()
-                    .concertId(concertId)
-                    .userId(user.getId())
-                    .position(position)
-                    .isRegister(true)
-                    .message("대기열에 등록되었습니다. 현재 순번: " + position)
-                    .build();
-        } else {
-            // 선점되지 않은 좌석이 있으면 대기열에 등록하지 않음
-            return QueueRegisterResponse.builder()
-                    .concertId(concertId)
-                    .userId(user.getId())
-                    .position(0L)
-                    .isRegister(false)
-                    .message("예약 가능한 좌석이 있습니다. 좌석을 선택해주세요.")
-                    .build();
+        queueMetrics.recordArrival(concertId, ticket);
+        log.info("사용자 {}가 콘서트 {} 대기열({})에 등록됨. 순번: {}", user.getId(), concertId, targetLane, position);
+
+        return QueueRegisterResponse.builder()
+                .concertId(concertId)
+                .userId(user.getId())
+                .position(position)
+                .isRegister(true)
+                .lane(targetLane)
+                .ticket(ticket)
+                .message("대기열에 등록되었습니다. 현재 순번: " + position)
+                .build();
+    }
+
+    /**
+     * 대기열 항목이 바인딩된 기기 ID (기기 ID 없이 등록했거나 대기 중이 아니면 null)
+     */
+    public String getBoundDevice(Long concertId, Long userId) {
+        String value = redisTemplate.opsForValue().get(queueShardRouter.positionKey(concertId, userId));
+        return value != null && !UNBOUND.equals(value) ? value : null;
+    }
+
+    /**
+     * 클라이언트가 보낸 기기 ID 검증 - 형식이 맞지 않으면 기기 ID 없음으로 처리
+     */
+    public static String normalizeDeviceId(String deviceId) {
+        return deviceId != null && DEVICE_ID_PATTERN.matcher(deviceId).matches() ? deviceId : null;
+    }
+
+    /**
+     * 레인 등록 허용 사용자 추가 (선예매/팬클럽 명단)
+     */
+    public void grantLaneAccess(Long concertId, String lane, List<Long> userIds) {
+        if (!queueLanes.contains(lane) || QueueLanes.DEFAULT_LANE.equals(lane)) {
+            throw new CustomException(ErrorCode.QUEUE_LANE_NOT_FOUND);
         }
+        concertRepository.findByIdAndDeletedAtIsNull(concertId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_NOT_FOUND));
+
+        redisTemplate.opsForSet().add(QueueKeys.laneAccess(concertId, lane),
+                userIds.stream().map(String::valueOf).toArray(String[]::new));
+        log.info("콘서트 {} 대기열 레인 {} 등록 허용: {}명", concertId, lane, userIds.size());
     }
 
     /**
-     * 현재 대기 순번 조회
+     * 현재 대기 순번 조회 (자신이 속한 레인 안에서의 순번)
+     * 샤드 모드에서는 자신의 대기 번호보다 작은 번호의 수를 모든 샤드에서 합산한다 (대기 번호가 전역 유일하므로 정확한 순번).
      */
     public Long getCurrentPosition(Long concertId, Long userId) {
-        String queueKey = QUEUE_KEY + concertId;
-        Long rank = redisTemplate.opsForZSet().rank(queueKey, userId.toString());
-        return rank != null ? rank + 1 : 0; // rank는 0부터 시작하므로 +1
+        if (!queueShardRouter.isSharded() && !queueLanes.isMultiLane()) {
+            Long rank = redisTemplate.opsForZSet().rank(QueueKeys.queue(concertId), userId.toString());
+            return rank != null ? rank + 1 : 0; // rank는 0부터 시작하므로 +1
+        }
+
+        Placement placement = locate(concertId, List.of(userId)).get(userId);
+        return placement != null ? positionsOf(concertId, Map.of(userId, placement)).get(userId) : 0;
     }
 
     /**
-     * 대기열 전체 크기 조회
+     * 대기열 전체 크기 조회 (모든 레인 합계)
      */
     public Long getQueueSize(Long concertId) {
-        String queueKey = QUEUE_KEY + concertId;
-        return redisTemplate.opsForZSet().zCard(queueKey);
+        if (!queueShardRouter.isSharded() && !queueLanes.isMultiLane()) {
+            Long size = redisTemplate.opsForZSet().zCard(QueueKeys.queue(concertId));
+            return size != null ? size : 0;
+        }
+        return getLaneSizes(concertId).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 레인별 대기 인원 조회 (설정 순서)
+     */
+    public Map<String, Long> getLaneSizes(Long concertId) {
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                queueLanes.getNames().forEach(lane -> queueShardRouter.queueKeys(concertId, lane)
+                        .forEach(key -> operations.opsForZSet().zCard(key)));
+                return null;
+            }
+        });
+        return toLaneSizes(sizes);
     }
 
     /**
      * 대기열에서 사용자 제거 (예매 완료 시)
      */
     public void removeFromQueue(Long concertId, Long userId) {
-        String queueKey = QUEUE_KEY + concertId;
-        String userPositionKey = USER_POSITION_KEY + concertId + ":" + userId;
-
-        redisTemplate.opsForZSet().remove(queueKey, userId.toString());
-        redisTemplate.delete(userPositionKey);
+        // 레인별 대기 번호 조회 + 제거를 한 번의 왕복으로 처리 (대기 중이었다면 대기 시간 기록)
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                queueLanes.getNames().forEach(lane -> {
+                    String queueKey = queueShardRouter.queueKeyOf(concertId, userId, lane);
+                    operations.opsForZSet().score(queueKey, userId.toString());
+                    operations.opsForZSet().remove(queueKey, userId.toString());
+                });
+                return null;
+            }
+        });
+        for (int i = 0; i < results.size(); i += 2) {
+            if (results.get(i) != null && Long.valueOf(1L).equals(results.get(i + 1))) {
+                queueMetrics.recordTimeInQueue(concertId, List.of(((Double) results.get(i)).longValue()),
+                        System.currentTimeMillis(), QueueMetrics.OUTCOME_REMOVED);
+            }
+        }
+        redisTemplate.opsForZSet().remove(queueShardRouter.heartbeatKeyOf(concertId, userId), userId.toString());
+        redisTemplate.delete(queueShardRouter.positionKey(concertId, userId));
+        queueAdmissionService.release(concertId, userId);
+        queueEventPublisher.publishChanged(concertId);
 
         log.info("사용자 {}가 콘서트 {} 대기열에서 제거됨", userId, concertId);
     }
 
-
+    /**
+     * 대기열 상태 조회 (대기 순서는 변경하지 않는다 - 입장 처리는 QueueAdmissionService 담당)
+     * 대기 중인 사용자는 조회 시 하트비트가 갱신된다.
+     */
     public QueueStatusResponse getQueueStatus(Long concertId, Long userId) {
-        // 예약 가능한 좌석이 있고 선점되지 않은 좌석이 있는지 확인
-        List<Seat> seats = seatRepository.findByAvailableSeat(concertId);
-        boolean hasAvailableSeats = false;
-        
-        if (!seats.isEmpty()) {
-            for (Seat seat : seats) {
-                String seatLockKey = "seat_lock:" + seat.getId();
-                // 선점되지 않은 좌석이 있는지 확인
-                if (!redisTemplate.hasKey(seatLockKey)) {
-                    hasAvailableSeats = true;
-                    break;
+        return getQueueStatuses(concertId, List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자의 대기열 상태를 한 번에 조회 (SSE 브로드캐스트용)
+     * 레인별 대기열 크기, 사용자별 레인 내 순번/입장 여부/추첨 대기 여부를 하나의 파이프라인으로 조회하고, 대기 중인 사용자의 하트비트를 갱신한다.
+     * 샤드 모드에서는 사용자별 대기 번호를 먼저 조회한 뒤 샤드별 ZCOUNT 를 한 번 더 파이프라인으로 조회한다.
+     */
+    public Map<Long, QueueStatusResponse> getQueueStatuses(Long concertId, Collection<Long> userIds) {
+        List<String> lanes = queueLanes.getNames();
+        String admittedKey = QueueKeys.admitted(concertId);
+        String lobbyKey = QueueKeys.lobby(concertId);
+        List<Long> targets = new ArrayList<>(userIds);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane)
+                        .forEach(key -> operations.opsForZSet().zCard(key)));
+                for (Long userId : targets) {
+                    addLocateCommands(operations, concertId, userId);
+                    operations.opsForZSet().score(admittedKey, userId.toString());
+                    operations.opsForSet().isMember(lobbyKey, userId.toString());
                 }
+                return null;
+            }
+        });
+
+        int offset = lanes.size() * queueShardRouter.getShardCount();
+        int stride = lanes.size() + 2;
+        Map<String, Long> laneSizes = toLaneSizes(results.subList(0, offset));
+        int totalQueue = (int) laneSizes.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<Long, Placement> placements = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Placement placement = toPlacement(results, offset + i * stride);
+            if (placement != null) {
+                placements.put(targets.get(i), placement);
             }
         }
-        
-        // 예약 가능하고 선점되지 않은 좌석이 있으면 대기열에서 한명씩 빼기
-        if (!seats.isEmpty() && hasAvailableSeats) {
-            processQueue(concertId);
-        }
+        Set<Long> approximated = new HashSet<>();
+        Map<Long, Long> positions = resolvePositions(concertId, placements, approximated);
+
+        // SSE 로 연결된 대기자 하트비트 갱신
+        refreshHeartbeats(concertId, new ArrayList<>(positions.keySet()));
+
+        long now = System.currentTimeMillis();
+        LocalDateTime timestamp = LocalDateTime.now();
 
-        Long position = getCurrentPosition(concertId, userId);
-        Long totalQueue = getQueueSize(concertId);
+        Map<Long, QueueStatusResponse> statuses = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Long userId = targets.get(i);
+            int from = offset + i * stride + lanes.size();
+            Double admittedUntil = (Double) results.get(from);
+            boolean canEnter = admittedUntil != null && admittedUntil > now;
+            boolean inLobby = Boolean.TRUE.equals(results.get(from + 1));
+            Placement placement = placements.get(userId);
+            long position = positions.getOrDefault(userId, 0L);
+            // 레인 내 순번을 레인이 받는 처리량 비율로 나눠 예상 대기 시간 계산
+            double share = placement != null ? queueLanes.shareOf(placement.lane(), laneSizes) : 1.0;
 
-        // 입장 가능 여부 판단: 예약 가능한 좌석이 있고 선점되지 않은 좌석이 있으면 true
-        boolean canEnter = !seats.isEmpty() && hasAvailableSeats;
+            statuses.put(userId, QueueStatusResponse.builder()
+                    .concertId(concertId)
+                    .userId(userId)
+                    .position((int) position)
+                    .totalQueue(totalQueue)
+                    .lane(placement != null ? placement.lane() : null)
+                    .ticket(placement != null && ticketMode() ? placement.value() : null)
+                    .approximate(approximated.contains(userId))
+                    .estimatedWaitTime(queueWaitTimeEstimator.estimateWaitSeconds(concertId, position, share))
+                    .canEnter(canEnter)
+                    .inLobby(inLobby)
+                    .admissionPass(canEnter ? issueAdmissionPass(concertId, userId, admittedUntil.longValue()) : null)
+                    .timestamp(timestamp)
+                    .build());
+        }
+        return statuses;
+    }
 
-        return QueueStatusResponse.builder()
+    private QueueRegisterResponse alreadyRegistered(Long concertId, Long userId, String lane, Long position,
+                                                    Long ticket) {
+        return QueueRegisterResponse.builder()
                 .concertId(concertId)
                 .userId(userId)
-                .position(position.intValue())
-                .totalQueue(totalQueue.intValue())
-                .estimatedWaitTime(position.intValue() * 30) // 인원수 * 30초 로 임시 지정
-                .canEnter(canEnter)
-                .timestamp(LocalDateTime.now())
+                .position(position)
+                .isRegister(false)
+                .lane(lane)
+                .ticket(ticket)
+                .message("이미 대기열에 등록되어 있습니다. 현재 순번: " + position)
                 .build();
     }
 
     /**
-     * 대기열에서 한명씩 처리 (예약 가능한 좌석이 있을 때)
+     * 대기자 하트비트 갱신 - 하트비트가 끊긴 대기자는 QueueReaperService 가 정리한다
+     */
+    private void refreshHeartbeats(Long concertId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        double now = System.currentTimeMillis();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                userIds.forEach(userId -> operations.opsForZSet()
+                        .add(queueShardRouter.heartbeatKeyOf(concertId, userId), userId.toString(), now));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 입장권 발급 - 입장 만료 시각까지 유효하며, 좌석 선택/결제 시 Redis 조회 없이 서명만으로 검증된다
+     */
+    private String issueAdmissionPass(Long concertId, Long userId, long expiresAt) {
+        return jwtTokenProvider.createAdmissionPass(userId, concertId, new Date(expiresAt));
+    }
+
+    /**
+     * 대기열 등록 - 전역 시퀀스에서 대기 번호를 발급받은 뒤 사용자가 속한 (샤드) 대기열에 등록
+     * 시퀀스 키와 대기 중인 콘서트 SET 은 대기열 키와 슬롯이 다르므로 스크립트 밖에서 처리한다.
+     * 이미 대기 중인 사용자는 번호를 발급하지 않고, 확인과 등록 사이에 대기열에서 빠진 경우에만 번호를 발급받아 다시 등록한다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> register(Long concertId, Long userId, String userPositionKey, String lane, String device) {
+        List<String> keys = List.of(queueShardRouter.queueKeyOf(concertId, userId, lane), userPositionKey,
+                queueShardRouter.heartbeatKeyOf(concertId, userId));
+        Long ticket = redisTemplate.opsForZSet().score(keys.get(0), userId.toString()) != null
+                ? 0L
+                : redisTemplate.opsForValue().increment(QueueKeys.sequence(concertId));
+
+        List<Object> result = executeRegister(keys, userId, ticket, device);
+        if ((Long) result.get(0) == -1L) {
+            result = executeRegister(keys, userId, redisTemplate.opsForValue().increment(QueueKeys.sequence(concertId)), device);
+        }
+
+        if ((Long) result.get(0) == 1L) {
+            redisTemplate.opsForSet().add(QueueKeys.ACTIVE_CONCERTS, concertId.toString());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> executeRegister(List<String> keys, Long userId, Long ticket, String device) {
+        return redisTemplate.execute(
+                REGISTER_SCRIPT,
+                keys,
+                userId.toString(),
+                String.valueOf(ticket),
+                String.valueOf(QueueKeys.USER_POSITION_TTL.getSeconds()),
+                String.valueOf(System.currentTimeMillis()),
+                device != null ? device : UNBOUND
+        );
+    }
+
+    /**
+     * 사용자가 속한 레인과 순번(샤드 모드에서는 대기 번호) 조회
+     */
+    private Map<Long, Placement> locate(Long concertId, List<Long> userIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                userIds.forEach(userId -> addLocateCommands(operations, concertId, userId));
+                return null;
+            }
+        });
+
+        Map<Long, Placement> placements = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Placement placement = toPlacement(results, i * queueLanes.getNames().size());
+            if (placement != null) {
+                placements.put(userIds.get(i), placement);
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * 대기 번호로 순번을 계산하는 모드 (샤드 모드 또는 워터마크 모드) - 사용자별 ZRANK 대신 ZSCORE 로 대기 번호를 조회한다
+     */
+    private boolean ticketMode() {
+        return queueShardRouter.isSharded() || queueWatermarkService.isEnabled();
+    }
+
+    // 레인마다 사용자 샤드의 대기열에서 순번(단일 모드) 또는 대기 번호(대기 번호 모드) 조회
+    private void addLocateCommands(RedisOperations<String, String> operations, Long concertId, Long userId) {
+        for (String lane : queueLanes.getNames()) {
+            String queueKey = queueShardRouter.queueKeyOf(concertId, userId, lane);
+            if (ticketMode()) {
+                operations.opsForZSet().score(queueKey, userId.toString());
+            } else {
+                operations.opsForZSet().rank(queueKey, userId.toString());
+            }
+        }
+    }
+
+    private Placement toPlacement(List<Object> results, int from) {
+        List<String> lanes = queueLanes.getNames();
+        for (int i = 0; i < lanes.size(); i++) {
+            Object value = results.get(from + i);
+            if (value != null) {
+                return ticketMode()
+                        ? new Placement(lanes.get(i), ((Double) value).longValue())
+                        : new Placement(lanes.get(i), (Long) value + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 워터마크 모드에서는 (대기 번호 - 레인 워터마크)로 대략적인 순번을 계산하고, 앞쪽 구간 사용자만 정확한 순번을 계산한다
+     * @param approximated 대략적인 순번을 사용한 사용자 ID 가 추가된다
      */
-    private void processQueue(Long concertId) {
-        String queueKey = QUEUE_KEY + concertId;
-        
-        // 대기열 첫 번째 사용자 조회
-        Set<String> firstUser = redisTemplate.opsForZSet().range(queueKey, 0, 0);
-        
-        if (firstUser != null && !firstUser.isEmpty()) {
-            String userId = firstUser.iterator().next();
-            String userPositionKey = USER_POSITION_KEY + concertId + ":" + userId;
-            
-            // 대기열에서 제거
-            redisTemplate.opsForZSet().remove(queueKey, userId);
-            redisTemplate.delete(userPositionKey);
-            
-            log.info("예약 가능한 좌석이 있어 사용자 {}를 콘서트 {} 대기열에서 제거함", userId, concertId);
+    private Map<Long, Long> resolvePositions(Long concertId, Map<Long, Placement> placements, Set<Long> approximated) {
+        if (!queueWatermarkService.isEnabled() || placements.isEmpty()) {
+            return positionsOf(concertId, placements);
         }
+
+        Map<String, Long> watermarks = queueWatermarkService.getWatermarks(concertId);
+        Map<Long, Long> positions = new HashMap<>();
+        Map<Long, Placement> nearFront = new HashMap<>();
+        placements.forEach((userId, placement) -> {
+            long approximate = placement.value() - watermarks.getOrDefault(placement.lane(), 0L);
+            if (approximate > queueWatermarkService.getExactRankThreshold()) {
+                positions.put(userId, approximate);
+                approximated.add(userId);
+            } else {
+                nearFront.put(userId, placement);
+            }
+        });
+        positions.putAll(positionsOf(concertId, nearFront));
+        return positions;
+    }
+
+    /**
+     * 레인 내 정확한 순번 계산 - 단일 모드는 조회한 순번을 그대로 쓰고, 대기 번호 모드는 레인별로 전역 순번을 계산한다
+     */
+    private Map<Long, Long> positionsOf(Long concertId, Map<Long, Placement> placements) {
+        Map<Long, Long> positions = new HashMap<>();
+        if (!ticketMode()) {
+            placements.forEach((userId, placement) -> positions.put(userId, placement.value()));
+            return positions;
+        }
+
+        Map<String, Map<Long, Long>> ticketsByLane = new HashMap<>();
+        placements.forEach((userId, placement) -> ticketsByLane
+                .computeIfAbsent(placement.lane(), lane -> new HashMap<>())
+                .put(userId, placement.value()));
+        ticketsByLane.forEach((lane, tickets) -> positions.putAll(globalPositions(concertId, lane, tickets)));
+        return positions;
     }
 
+    /**
+     * 대기 번호 → 레인 내 전역 순번 (레인의 모든 샤드에서 더 작은 대기 번호 수의 합 + 1)
+     */
+    private Map<Long, Long> globalPositions(Long concertId, String lane, Map<Long, Long> tickets) {
+        Map<Long, Long> positions = new HashMap<>();
+        if (tickets.isEmpty()) {
+            return positions;
+        }
+
+        List<String> queueKeys = queueShardRouter.queueKeys(concertId, lane);
+        List<Long> users = new ArrayList<>(tickets.keySet());
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Long user : users) {
+                    long ticket = tickets.get(user);
+                    queueKeys.forEach(key -> operations.opsForZSet().count(key, Double.NEGATIVE_INFINITY, ticket - 1));
+                }
+                return null;
+            }
+        });
+
+        for (int i = 0; i < users.size(); i++) {
+            int from = i * queueKeys.size();
+            positions.put(users.get(i), sum(counts.subList(from, from + queueKeys.size())) + 1);
+        }
+        return positions;
+    }
+
+    // 레인 × 샤드 순서로 조회한 ZCARD 결과 → 레인별 대기 인원
+    private Map<String, Long> toLaneSizes(List<Object> sizes) {
+        Map<String, Long> laneSizes = new LinkedHashMap<>();
+        int shards = queueShardRouter.getShardCount();
+        List<String> lanes = queueLanes.getNames();
+        for (int i = 0; i < lanes.size(); i++) {
+            laneSizes.put(lanes.get(i), sum(sizes.subList(i * shards, (i + 1) * shards)));
+        }
+        return laneSizes;
+    }
+
+    private long sum(List<Object> counts) {
+        return counts.stream()
+                .mapToLong(count -> count != null ? (Long) count : 0)
+                .sum();
+    }
+
+    /**
+     * 사용자가 속한 레인과 값 (단일 모드: 레인 내 순번, 대기 번호 모드: 대기 번호)
+     */
+    private record Placement(String lane, long value) {
+    }
 }
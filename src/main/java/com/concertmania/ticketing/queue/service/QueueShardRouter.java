@@ -0,0 +1,110 @@
+package com.concertmania.ticketing.queue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대기열 샤드 라우터
+ * 샤드 수가 1이면 기존 단일 키(concert:queue:{id})를 그대로 사용하고,
+ * 2 이상이면 사용자 ID 기준으로 N개의 샤드 키에 분산한다. 샤드 키와 해당 샤드 사용자의 위치 키는
+ * 같은 해시 태그를 가지므로 Redis Cluster 에서도 등록 스크립트가 하나의 슬롯에서 실행된다.
+ */
+@Component
+public class QueueShardRouter {
+
+    private final int shardCount;
+
+    public QueueShardRouter(@Value("${queue.shard.count:1}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("queue.shard.count must be >= 1");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    /**
+     * 샤드 대기열 ZSET 키
+     */
+    public String queueKey(Long concertId, int shard) {
+        return isSharded() ? QueueKeys.queueShard(concertId, shard) : QueueKeys.queue(concertId);
+    }
+
+    /**
+     * 사용자가 속한 샤드의 대기열 ZSET 키
+     */
+    public String queueKeyOf(Long concertId, Long userId) {
+        return queueKey(concertId, shardOf(userId));
+    }
+
+    /**
+     * 콘서트의 모든 샤드 대기열 키 (샤드 번호 순)
+     */
+    public List<String> queueKeys(Long concertId) {
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(queueKey(concertId, shard));
+        }
+        return keys;
+    }
+
+    /**
+     * 레인별 샤드 대기열 ZSET 키 (기본 레인은 레인 없는 키와 동일)
+     */
+    public String queueKey(Long concertId, int shard, String lane) {
+        if (QueueLanes.DEFAULT_LANE.equals(lane)) {
+            return queueKey(concertId, shard);
+        }
+        return isSharded() ? QueueKeys.laneQueueShard(concertId, shard, lane) : QueueKeys.laneQueue(concertId, lane);
+    }
+
+    public String queueKeyOf(Long concertId, Long userId, String lane) {
+        return queueKey(concertId, shardOf(userId), lane);
+    }
+
+    /**
+     * 레인의 모든 샤드 대기열 키 (샤드 번호 순)
+     */
+    public List<String> queueKeys(Long concertId, String lane) {
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(queueKey(concertId, shard, lane));
+        }
+        return keys;
+    }
+
+    /**
+     * 샤드 하트비트 ZSET 키
+     */
+    public String heartbeatKey(Long concertId, int shard) {
+        return isSharded() ? QueueKeys.heartbeatShard(concertId, shard) : QueueKeys.heartbeat(concertId);
+    }
+
+    public String heartbeatKeyOf(Long concertId, Long userId) {
+        return heartbeatKey(concertId, shardOf(userId));
+    }
+
+    /**
+     * 샤드별 사용자 위치 키 접두사
+     */
+    public String positionPrefix(Long concertId, int shard) {
+        return isSharded() ? QueueKeys.userPositionShardPrefix(concertId, shard) : QueueKeys.userPositionPrefix(concertId);
+    }
+
+    public String positionKey(Long concertId, Long userId) {
+        return positionPrefix(concertId, shardOf(userId)) + userId;
+    }
+}
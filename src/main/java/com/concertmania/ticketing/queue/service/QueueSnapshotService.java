@@ -0,0 +1,136 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.queue.dto.QueueSnapshotResponse;
+import com.concertmania.ticketing.utils.exception.CustomException;
+import com.concertmania.ticketing.utils.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 공개 스냅샷
+ * 콘서트별 진행 위치(레인 맨 앞 대기 번호 - 1), 대기 인원, 입장 처리량을 인스턴스당 최대 1초에 한 번 JSON 바이트로 만들어 재사용한다.
+ * 모든 대기자에게 같은 내용이므로 ETag / Cache-Control 을 붙여 리버스 프록시가 익명 폴링을 대신 응답하도록 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QueueSnapshotService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcertRepository concertRepository;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Holder> holders = new ConcurrentHashMap<>();
+
+    @Value("${queue.snapshot.refresh-ms:1000}")
+    private long refreshMs;
+
+    public long getRefreshMs() {
+        return refreshMs;
+    }
+
+    /**
+     * 콘서트 스냅샷 조회 - 갱신 주기가 지났으면 한 요청만 다시 만들고 나머지는 이전 스냅샷을 기다려 받는다
+     */
+    public Snapshot getSnapshot(Long concertId) {
+        Holder holder = holders.get(concertId);
+        if (holder == null) {
+            // 없는 콘서트 ID 로 캐시가 늘어나지 않도록 처음 한 번만 확인
+            concertRepository.findByIdAndDeletedAtIsNull(concertId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_NOT_FOUND));
+            holder = holders.computeIfAbsent(concertId, id -> new Holder());
+        }
+
+        Snapshot current = holder.snapshot;
+        if (current != null && !current.isExpired(refreshMs)) {
+            return current;
+        }
+        synchronized (holder) {
+            if (holder.snapshot == null || holder.snapshot.isExpired(refreshMs)) {
+                holder.snapshot = build(concertId);
+            }
+            return holder.snapshot;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Snapshot build(Long concertId) {
+        List<String> lanes = queueLanes.getNames();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().get(QueueKeys.sequence(concertId));
+                lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane).forEach(key -> {
+                    operations.opsForZSet().rangeWithScores(key, 0, 0);
+                    operations.opsForZSet().zCard(key);
+                }));
+                return null;
+            }
+        });
+
+        long issued = results.get(0) != null ? Long.parseLong(results.get(0).toString()) : 0;
+        Map<String, Long> heads = new LinkedHashMap<>();
+        long depth = 0;
+        int index = 1;
+        for (String lane : lanes) {
+            long head = Long.MAX_VALUE;
+            for (int shard = 0; shard < queueShardRouter.getShardCount(); shard++) {
+                for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) results.get(index++)) {
+                    head = Math.min(head, tuple.getScore().longValue());
+                }
+                depth += (Long) results.get(index++);
+            }
+            heads.put(lane, head == Long.MAX_VALUE ? issued : head - 1);
+        }
+
+        // 처리량은 소수 첫째 자리까지만 - 값이 미세하게 흔들릴 때마다 ETag 가 바뀌지 않도록
+        double admissionRate = Math.round(queueWaitTimeEstimator.getAdmissionRate(concertId) * 10) / 10.0;
+        QueueSnapshotResponse response = QueueSnapshotResponse.builder()
+                .concertId(concertId)
+                .lastSequence(issued)
+                .heads(heads)
+                .depth(depth)
+                .admissionRate(admissionRate)
+                .build();
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", System.currentTimeMillis());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 직렬화된 스냅샷 (생성 후 변경하지 않음)
+     */
+    public record Snapshot(byte[] body, String etag, long generatedAt) {
+
+        boolean isExpired(long refreshMs) {
+            return System.currentTimeMillis() - generatedAt >= refreshMs;
+        }
+    }
+
+    private static class Holder {
+        private volatile Snapshot snapshot;
+    }
+}
@@ -0,0 +1,271 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
+import com.concertmania.ticketing.queue.dto.QueueSummaryResponse;
+import com.concertmania.ticketing.user.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 콘서트별 대기열 STOMP 브로드캐스터
+ * /topic/queue/{concertId} 구독을 콘서트 단위로 모아 대기열 변경 이벤트마다 한 번만 조회하고,
+ * 콘서트 공용 정보는 토픽으로, 순번 변경/입장 알림은 사용자 전용 경로(/user/queue/**)로 전송한다.
+ * 같은 사용자의 여러 세션은 한 구독자로 묶여 조회와 전송이 한 번씩만 일어난다.
+ */
+@Slf4j
+@Service
+public class QueueStompService {
+
+    public static final String TOPIC_PREFIX = "/topic/queue/";
+    public static final String STATUS_DESTINATION = "/queue/status";
+    public static final String ADMISSION_DESTINATION = "/queue/admission";
+
+    private static final Pattern TOPIC_PATTERN = Pattern.compile("^/topic/queue/(\\d+)$");
+
+    private final QueueService queueService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 콘서트 ID → (사용자 ID → 구독 정보)
+    private final Map<Long, Map<Long, Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // "세션 ID:구독 ID" → 구독 대상 (구독 해제/연결 종료 시 정리용)
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    // 콘서트 ID → 마지막으로 전송한 전체 대기열 구간
+    private final Map<Long, Long> lastTotals = new ConcurrentHashMap<>();
+    // 변경 이벤트를 받았지만 아직 전송하지 않은 콘서트
+    private final Set<Long> changedConcerts = ConcurrentHashMap.newKeySet();
+    private final Counter sentMessages;
+    private final Counter suppressedMessages;
+
+    public QueueStompService(QueueService queueService, SimpMessagingTemplate messagingTemplate,
+                             MeterRegistry meterRegistry) {
+        this.queueService = queueService;
+        this.messagingTemplate = messagingTemplate;
+
+        Gauge.builder("queue.stomp.subscriptions", subscriptions, Map::size)
+                .description("대기열 토픽 STOMP 구독 수")
+                .register(meterRegistry);
+        this.sentMessages = Counter.builder("queue.stomp.sent")
+                .description("사용자 경로로 전송된 대기열 STOMP 메시지 수")
+                .register(meterRegistry);
+        this.suppressedMessages = Counter.builder("queue.stomp.suppressed")
+                .description("순번 구간이 같아 전송하지 않은 대기열 STOMP 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        Long userId = userIdOf(event.getUser());
+        if (destination == null || userId == null) {
+            return;
+        }
+        Matcher matcher = TOPIC_PATTERN.matcher(destination);
+        if (matcher.matches()) {
+            subscribe(Long.valueOf(matcher.group(1)), userId, event.getUser().getName(),
+                    accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        new ArrayList<>(subscriptions.keySet()).stream()
+                .filter(key -> key.startsWith(prefix))
+                .forEach(this::unsubscribe);
+    }
+
+    /**
+     * 콘서트 토픽 구독 등록 - 현재 상태는 다음 전송 주기에 전송 (사용자 경로 구독이 먼저 처리되도록)
+     */
+    public void subscribe(Long concertId, Long userId, String principalName, String sessionId, String subscriptionId) {
+        String key = sessionId + ":" + subscriptionId;
+        subscriptions.put(key, new Subscription(concertId, userId));
+        subscribers.computeIfAbsent(concertId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(userId, id -> new Subscriber(principalName))
+                .sessions.add(key);
+        changedConcerts.add(concertId);
+    }
+
+    /**
+     * 대기열 변경 이벤트 수신 - 이 인스턴스에 구독자가 있는 콘서트만 전송 대상으로 표시
+     */
+    public void markChanged(Long concertId) {
+        if (subscribers.containsKey(concertId)) {
+            changedConcerts.add(concertId);
+        }
+    }
+
+    /**
+     * 변경된 콘서트의 상태 전송 (짧은 주기 실행 - 변경이 없으면 Redis 조회 없음)
+     */
+    @Scheduled(fixedDelayString = "${queue.stream.flush-interval-ms:200}")
+    public void flushChanges() {
+        if (changedConcerts.isEmpty()) {
+            return;
+        }
+        List<Long> concertIds = new ArrayList<>(changedConcerts);
+        changedConcerts.removeAll(concertIds);
+
+        for (Long concertId : concertIds) {
+            Map<Long, Subscriber> users = subscribers.get(concertId);
+            if (users == null || users.isEmpty()) {
+                continue;
+            }
+            try {
+                push(concertId, users);
+            } catch (Exception e) {
+                log.error("[STOMP 전송] 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 모든 콘서트 상태 전송 (긴 주기 실행 - 이벤트 유실 보정, 연결된 구독자의 대기열 하트비트 갱신)
+     * 연결 유지 확인은 STOMP 하트비트가 담당한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.stream.interval-ms:30000}")
+    public void broadcast() {
+        subscribers.forEach((concertId, users) -> {
+            if (users.isEmpty()) {
+                subscribers.remove(concertId, users);
+                lastTotals.remove(concertId);
+                return;
+            }
+            try {
+                push(concertId, users);
+            } catch (Exception e) {
+                log.error("[STOMP 브로드캐스트] 실패. Concert: {}", concertId, e);
+            }
+        });
+    }
+
+    public int getSubscriberCount(Long concertId) {
+        Map<Long, Subscriber> users = subscribers.get(concertId);
+        return users != null ? users.size() : 0;
+    }
+
+    private void push(Long concertId, Map<Long, Subscriber> users) {
+        Map<Long, QueueStatusResponse> statuses = queueService.getQueueStatuses(concertId, users.keySet());
+
+        // 콘서트 공용 토픽 - 전체 대기 인원 구간이 바뀔 때만 한 번 전송 (브로커가 구독자에게 팬아웃)
+        statuses.values().stream().findFirst().ifPresent(any -> {
+            long bucket = QueueRankBuckets.bucketOf(any.getTotalQueue());
+            Long previous = lastTotals.put(concertId, bucket);
+            if (previous == null || previous != bucket) {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + concertId, QueueSummaryResponse.builder()
+                        .concertId(concertId)
+                        .totalQueue(any.getTotalQueue())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+            }
+        });
+
+        users.forEach((userId, subscriber) -> {
+            QueueStatusResponse response = statuses.get(userId);
+            if (response != null) {
+                send(concertId, userId, subscriber, response);
+            }
+        });
+    }
+
+    private void send(Long concertId, Long userId, Subscriber subscriber, QueueStatusResponse response) {
+        if (Boolean.TRUE.equals(response.getCanEnter())) {
+            // 입장 알림 (입장권 포함) - 이후 순번 전송 대상에서 제외
+            messagingTemplate.convertAndSendToUser(subscriber.principalName, ADMISSION_DESTINATION, response);
+            sentMessages.increment();
+            removeSubscriber(concertId, userId);
+            return;
+        }
+
+        // 추첨 대기실 사용자는 오픈 후 순번이 배정될 때까지 전송 유지
+        if (response.getPosition() > 0 || Boolean.TRUE.equals(response.getInLobby())) {
+            String state = QueueRankBuckets.stateOf(response);
+            if (state.equals(subscriber.lastState)) {
+                suppressedMessages.increment();
+                return;
+            }
+            subscriber.lastState = state;
+            messagingTemplate.convertAndSendToUser(subscriber.principalName, STATUS_DESTINATION, response);
+            sentMessages.increment();
+            return;
+        }
+
+        // 대기열에 없으면 마지막 상태를 전송하고 전송 대상에서 제외
+        messagingTemplate.convertAndSendToUser(subscriber.principalName, STATUS_DESTINATION, response);
+        sentMessages.increment();
+        removeSubscriber(concertId, userId);
+    }
+
+    private void unsubscribe(String key) {
+        Subscription subscription = subscriptions.remove(key);
+        if (subscription == null) {
+            return;
+        }
+        Map<Long, Subscriber> users = subscribers.get(subscription.concertId());
+        if (users != null) {
+            users.computeIfPresent(subscription.userId(), (id, subscriber) -> {
+                subscriber.sessions.remove(key);
+                return subscriber.sessions.isEmpty() ? null : subscriber;
+            });
+        }
+    }
+
+    private void removeSubscriber(Long concertId, Long userId) {
+        Map<Long, Subscriber> users = subscribers.get(concertId);
+        Subscriber subscriber = users != null ? users.remove(userId) : null;
+        if (subscriber != null) {
+            subscriber.sessions.forEach(subscriptions::remove);
+        }
+    }
+
+    private Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private record Subscription(Long concertId, Long userId) {
+    }
+
+    /**
+     * 사용자 단위 구독 정보 (연결된 세션 목록, 마지막으로 전송한 상태)
+     */
+    private static class Subscriber {
+        private final String principalName;
+        private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+        private volatile String lastState;
+
+        Subscriber(String principalName) {
+            this.principalName = principalName;
+        }
+    }
+}
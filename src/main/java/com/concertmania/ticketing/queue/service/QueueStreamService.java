@@ -0,0 +1,339 @@
+package com.concertmania.ticketing.queue.service;
+
+import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
+import com.concertmania.ticketing.utils.exception.CustomException;
+import com.concertmania.ticketing.utils.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 콘서트별 대기열 SSE 브로드캐스터
+ * 대기열 변경 이벤트(Redis Pub/Sub)를 받은 콘서트만 짧은 주기로 모아서 조회하고, 순번 구간이 바뀐 구독자에게만 전송한다.
+ * 이벤트 유실에 대비한 전체 브로드캐스트는 긴 주기로 실행되며, 변경이 없는 연결에는 keepalive 코멘트만 보낸다.
+ * 같은 사용자의 여러 탭/기기 연결은 하나의 사용자 구독으로 묶여 상태 조회, 구간 비교, 직렬화가 사용자당 한 번만 일어난다.
+ */
+@Slf4j
+@Service
+public class QueueStreamService {
+
+    private final QueueService queueService;
+    private final ObjectMapper objectMapper;
+
+    // 콘서트 ID → (사용자 ID → 사용자 구독)
+    private final Map<Long, Map<Long, UserStream>> subscribers = new ConcurrentHashMap<>();
+    // 변경 이벤트를 받았지만 아직 전송하지 않은 콘서트
+    private final Set<Long> changedConcerts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter rejectedConnections;
+    private final Counter replacedConnections;
+    private final Counter sentEvents;
+    private final Counter suppressedEvents;
+
+    @Value("${queue.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${queue.stream.max-streams-per-user:3}")
+    private int maxStreamsPerUser;
+
+    public QueueStreamService(QueueService queueService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.queueService = queueService;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("queue.sse.connections", connections, AtomicInteger::get)
+                .description("연결된 대기열 SSE 클라이언트 수")
+                .register(meterRegistry);
+        Gauge.builder("queue.sse.concerts", subscribers, Map::size)
+                .description("SSE 구독자가 있는 콘서트 수")
+                .register(meterRegistry);
+        this.rejectedConnections = Counter.builder("queue.sse.rejected")
+                .description("최대 연결 수 초과로 거절된 SSE 연결 수")
+                .register(meterRegistry);
+        this.replacedConnections = Counter.builder("queue.sse.replaced")
+                .description("같은 기기 재연결 또는 사용자당 연결 수 초과로 종료된 SSE 연결 수")
+                .register(meterRegistry);
+        this.sentEvents = Counter.builder("queue.sse.sent")
+                .description("순번 구간 변경으로 전송된 SSE 이벤트 수 (사용자 단위)")
+                .register(meterRegistry);
+        this.suppressedEvents = Counter.builder("queue.sse.suppressed")
+                .description("순번 구간이 같아 전송하지 않은 SSE 이벤트 수 (사용자 단위)")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long concertId, Long userId) {
+        return subscribe(concertId, userId, null);
+    }
+
+    /**
+     * SSE 구독 등록 - 최대 연결 수를 넘으면 거절
+     * 같은 기기에서 다시 연결하면 이전 연결을 교체하고, 사용자당 연결 수를 넘으면 오래된 연결부터 종료한다 (대기열 등록 기기는 유지).
+     * @param deviceId 기기 ID (없으면 연결마다 별도 기기로 취급)
+     */
+    public SseEmitter subscribe(Long concertId, Long userId, String deviceId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedConnections.increment();
+            throw new CustomException(ErrorCode.QUEUE_STREAM_LIMIT_EXCEEDED);
+        }
+
+        String device = QueueService.normalizeDeviceId(deviceId);
+        String streamDevice = device != null ? device : UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(0L); // 무제한 타임아웃
+        boolean attached = false;
+        try {
+            String boundDevice = queueService.getBoundDevice(concertId, userId);
+
+            List<SseEmitter> evicted = new ArrayList<>();
+            // 콘서트 항목 안에서 연결 추가 - 빈 항목 제거(broadcast)와 겹쳐도 제거된 맵에 연결이 남지 않음
+            subscribers.compute(concertId, (id, users) -> {
+                Map<Long, UserStream> target = users != null ? users : new ConcurrentHashMap<>();
+                target.compute(userId, (uid, stream) -> {
+                    UserStream userStream = stream != null ? stream : new UserStream();
+                    evicted.addAll(userStream.attach(streamDevice, emitter, boundDevice, maxStreamsPerUser));
+                    return userStream;
+                });
+                return target;
+            });
+            attached = true;
+            evicted.forEach(replaced -> {
+                connections.decrementAndGet();
+                replacedConnections.increment();
+                try {
+                    replaced.send(SseEmitter.event().name("queue-replaced").data("다른 연결로 대체되었습니다."));
+                    replaced.complete();
+                } catch (Exception e) {
+                    replaced.completeWithError(e);
+                }
+            });
+
+            // 완료/타임아웃/오류 모두 onCompletion 으로 이어지므로 여기서 정리
+            emitter.onCompletion(() -> {
+                unsubscribe(concertId, userId, streamDevice, emitter);
+                log.info("SSE 연결 완료: 콘서트 {}, 사용자 {}", concertId, userId);
+            });
+            emitter.onTimeout(() -> log.info("SSE 연결 타임아웃: 콘서트 {}, 사용자 {}", concertId, userId));
+            emitter.onError(e -> unsubscribe(concertId, userId, streamDevice, emitter));
+
+            // 연결 직후 현재 상태 전송 (새 연결에만 - 같은 사용자의 기존 연결은 이미 같은 상태를 받음)
+            QueueStatusResponse response = queueService.getQueueStatus(concertId, userId);
+            boolean waiting = isWaiting(response);
+            sendTo(concertId, userId, streamDevice, emitter, waiting ? "queue-update" : "queue-complete", toJson(response), !waiting);
+        } catch (RuntimeException e) {
+            // 연결 수는 이미 늘렸으므로 등록 전에 실패했으면 되돌리고, 등록 후 실패했으면 연결을 정리
+            if (attached) {
+                unsubscribe(concertId, userId, streamDevice, emitter);
+            } else {
+                connections.decrementAndGet();
+            }
+            emitter.completeWithError(e);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * 대기열 변경 이벤트 수신 - 이 인스턴스에 구독자가 있는 콘서트만 전송 대상으로 표시
+     */
+    public void markChanged(Long concertId) {
+        if (subscribers.containsKey(concertId)) {
+            changedConcerts.add(concertId);
+        }
+    }
+
+    /**
+     * 변경된 콘서트의 상태 전송 (짧은 주기 실행 - 변경이 없으면 Redis 조회 없음)
+     * 이벤트가 몰려도 주기당 콘서트별로 한 번만 조회한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.stream.flush-interval-ms:200}")
+    public void flushChanges() {
+        if (changedConcerts.isEmpty()) {
+            return;
+        }
+        List<Long> concertIds = new ArrayList<>(changedConcerts);
+        changedConcerts.removeAll(concertIds);
+
+        for (Long concertId : concertIds) {
+            Map<Long, UserStream> users = subscribers.get(concertId);
+            if (users == null || users.isEmpty()) {
+                continue;
+            }
+            try {
+                push(concertId, users, false);
+            } catch (Exception e) {
+                log.error("[SSE 전송] 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 모든 콘서트 상태 전송 (긴 주기 실행 - 이벤트 유실 보정, 하트비트 갱신, keepalive)
+     */
+    @Scheduled(fixedDelayString = "${queue.stream.interval-ms:30000}")
+    public void broadcast() {
+        subscribers.forEach((concertId, users) -> {
+            if (users.isEmpty()) {
+                // 비었는지 확인과 제거를 원자적으로 - 그 사이 구독한 사용자의 연결이 함께 버려지지 않도록
+                subscribers.computeIfPresent(concertId, (id, current) -> current.isEmpty() ? null : current);
+                return;
+            }
+            try {
+                push(concertId, users, true);
+            } catch (Exception e) {
+                log.error("[SSE 브로드캐스트] 실패. Concert: {}", concertId, e);
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * 사용자의 연결된 기기 ID 목록 (연결 순서)
+     */
+    public List<String> getDevices(Long concertId, Long userId) {
+        Map<Long, UserStream> users = subscribers.get(concertId);
+        UserStream stream = users != null ? users.get(userId) : null;
+        return stream != null ? new ArrayList<>(stream.snapshot().keySet()) : List.of();
+    }
+
+    private void push(Long concertId, Map<Long, UserStream> users, boolean keepalive) {
+        Map<Long, QueueStatusResponse> statuses = queueService.getQueueStatuses(concertId, users.keySet());
+        users.forEach((userId, stream) -> send(concertId, userId, stream, statuses.get(userId), keepalive));
+    }
+
+    private void send(Long concertId, Long userId, UserStream stream, QueueStatusResponse response, boolean keepalive) {
+        Map<String, SseEmitter> emitters = stream.snapshot();
+        // 추첨 대기실 사용자는 오픈 후 순번이 배정될 때까지 연결 유지
+        if (isWaiting(response)) {
+            // 순번 구간이 그대로면 전송하지 않음 (주기 브로드캐스트에서는 연결 유지용 코멘트만 전송)
+            String state = QueueRankBuckets.stateOf(response);
+            if (state.equals(stream.lastState)) {
+                suppressedEvents.increment();
+                if (keepalive) {
+                    emitters.forEach((device, emitter) -> sendTo(concertId, userId, device, emitter, null, null, false));
+                }
+                return;
+            }
+            stream.lastState = state;
+            sentEvents.increment();
+            String payload = toJson(response);
+            emitters.forEach((device, emitter) -> sendTo(concertId, userId, device, emitter, "queue-update", payload, false));
+        } else {
+            // 대기열에 없으면 연결 종료
+            String payload = toJson(response);
+            emitters.forEach((device, emitter) -> sendTo(concertId, userId, device, emitter, "queue-complete", payload, true));
+        }
+    }
+
+    /**
+     * 연결 하나에 전송 - 이벤트 이름이 없으면 keepalive 코멘트
+     */
+    private void sendTo(Long concertId, Long userId, String device, SseEmitter emitter, String name, String payload,
+                        boolean complete) {
+        try {
+            if (name == null) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+                return;
+            }
+            emitter.send(SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+            if (complete) {
+                emitter.complete();
+                unsubscribe(concertId, userId, device, emitter);
+            }
+        } catch (Exception e) {
+            // 클라이언트 연결 끊김 등
+            log.debug("SSE 전송 실패 - 연결 정리: 콘서트 {}, 사용자 {}", concertId, userId);
+            unsubscribe(concertId, userId, device, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long concertId, Long userId, String device, SseEmitter emitter) {
+        Map<Long, UserStream> users = subscribers.get(concertId);
+        if (users == null) {
+            return;
+        }
+        users.computeIfPresent(userId, (id, stream) -> {
+            if (stream.detach(device, emitter)) {
+                connections.decrementAndGet();
+            }
+            return stream.isEmpty() ? null : stream;
+        });
+    }
+
+    private boolean isWaiting(QueueStatusResponse response) {
+        return response.getPosition() > 0 || Boolean.TRUE.equals(response.getInLobby());
+    }
+
+    // 사용자당 한 번만 직렬화해 모든 연결에 같은 문자열 전송
+    private String toJson(QueueStatusResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열 상태 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 사용자 단위 SSE 구독 (기기 ID → 연결, 마지막으로 전송한 상태)
+     */
+    private static class UserStream {
+        private final Map<String, SseEmitter> emitters = new LinkedHashMap<>();
+        private volatile String lastState;
+
+        /**
+         * 연결 추가
+         * @return 교체되거나 연결 수 상한으로 밀려난 연결
+         */
+        synchronized List<SseEmitter> attach(String device, SseEmitter emitter, String boundDevice, int maxStreams) {
+            List<SseEmitter> evicted = new ArrayList<>();
+            SseEmitter previous = emitters.remove(device);
+            if (previous != null) {
+                evicted.add(previous);
+            }
+            emitters.put(device, emitter);
+
+            Iterator<Map.Entry<String, SseEmitter>> iterator = emitters.entrySet().iterator();
+            while (emitters.size() > maxStreams && iterator.hasNext()) {
+                Map.Entry<String, SseEmitter> oldest = iterator.next();
+                if (oldest.getKey().equals(device) || oldest.getKey().equals(boundDevice)) {
+                    continue;
+                }
+                evicted.add(oldest.getValue());
+                iterator.remove();
+            }
+            return evicted;
+        }
+
+        synchronized boolean detach(String device, SseEmitter emitter) {
+            return emitters.remove(device, emitter);
+        }
+
+        synchronized boolean isEmpty() {
+            return emitters.isEmpty();
+        }
+
+        synchronized Map<String, SseEmitter> snapshot() {
+            return new LinkedHashMap<>(emitters);
+        }
+    }
+}
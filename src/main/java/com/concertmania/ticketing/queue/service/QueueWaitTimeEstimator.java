@@ -0,0 +1,206 @@
+package com.concertmania.ticketing.queue.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리량 기반 예상 대기 시간 계산기
+ * 콘서트별 입장/결제 완료 누적 카운터를 Redis 에 기록하고, 인스턴스마다 주기적으로 샘플링해 EWMA 처리량(명/초)을 계산한다.
+ * 카운터가 Redis 에 있으므로 입장 처리를 담당하지 않는 인스턴스도 같은 처리량을 본다.
+ */
+@Service
+public class QueueWaitTimeEstimator {
+
+    private static final String ADMITTED = "admitted";
+    private static final String CHECKOUT = "checkout";
+    private static final double MIN_RATE = 0.01; // 이보다 낮으면 처리량이 없는 것으로 간주
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, RateState> states = new ConcurrentHashMap<>();
+
+    @Value("${queue.estimator.window-seconds:60}")
+    private double windowSeconds;
+
+    @Value("${queue.estimator.fallback-seconds-per-user:30}")
+    private int fallbackSecondsPerUser;
+
+    public QueueWaitTimeEstimator(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 입장 처리 기록
+     */
+    public void recordAdmissions(Long concertId, long count) {
+        if (count > 0) {
+            redisTemplate.opsForHash().increment(QueueKeys.rate(concertId), ADMITTED, count);
+        }
+    }
+
+    /**
+     * 결제 완료 기록
+     */
+    public void recordCheckout(Long concertId) {
+        redisTemplate.opsForHash().increment(QueueKeys.rate(concertId), CHECKOUT, 1);
+    }
+
+    /**
+     * 순번 → 예상 대기 시간(초)
+     * 입장 처리량을 우선 사용하고, 입장이 멈춘 경우(좌석/입장 인원 포화) 결제 완료 처리량을 사용한다.
+     * 관측된 처리량이 없으면 인원당 고정 시간으로 계산한다.
+     */
+    public int estimateWaitSeconds(Long concertId, long position) {
+        return estimateWaitSeconds(concertId, position, 1.0);
+    }
+
+    /**
+     * 레인 순번 → 예상 대기 시간(초)
+     * @param laneShare 레인이 받는 입장 처리량 비율 (가중치 / 대기자가 있는 레인의 가중치 합)
+     */
+    public int estimateWaitSeconds(Long concertId, long position, double laneShare) {
+        if (position <= 0) {
+            return 0;
+        }
+
+        RateState state = states.get(concertId);
+        double rate = 0;
+        if (state != null) {
+            rate = state.admissionRate >= MIN_RATE ? state.admissionRate : state.checkoutRate;
+        }
+        if (rate < MIN_RATE) {
+            return (int) Math.min(Integer.MAX_VALUE, Math.ceil(position * fallbackSecondsPerUser / laneShare));
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(position / (rate * laneShare)));
+    }
+
+    public double getAdmissionRate(Long concertId) {
+        RateState state = states.get(concertId);
+        return state != null ? state.admissionRate : 0;
+    }
+
+    public double getCheckoutRate(Long concertId) {
+        RateState state = states.get(concertId);
+        return state != null ? state.checkoutRate : 0;
+    }
+
+    /**
+     * 누적 카운터 샘플링 및 EWMA 갱신 (주기 실행)
+     * 대기 중인 콘서트와 처리량이 남아 있는 콘서트를 대상으로 하며, 대기자가 없고 처리량이 소멸한 콘서트는 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.estimator.sample-interval-ms:5000}")
+    public void sample() {
+        Set<String> activeConcerts = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        Set<Long> targets = new HashSet<>(states.keySet());
+        if (activeConcerts != null) {
+            activeConcerts.forEach(concertId -> targets.add(Long.valueOf(concertId)));
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<Long> concertIds = new ArrayList<>(targets);
+        List<Object> counters = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                concertIds.forEach(concertId ->
+                        operations.opsForHash().multiGet(QueueKeys.rate(concertId), List.of(ADMITTED, CHECKOUT)));
+                return null;
+            }
+        });
+
+        long now = System.nanoTime();
+        for (int i = 0; i < concertIds.size(); i++) {
+            Long concertId = concertIds.get(i);
+            List<?> values = (List<?>) counters.get(i);
+            long admitted = parse(values.get(0));
+            long checkout = parse(values.get(1));
+
+            RateState state = states.computeIfAbsent(concertId, id -> register(id, admitted, checkout, now));
+            state.update(admitted, checkout, now, windowSeconds);
+
+            boolean waiting = activeConcerts != null && activeConcerts.contains(concertId.toString());
+            if (!waiting && state.admissionRate < MIN_RATE && state.checkoutRate < MIN_RATE) {
+                unregister(concertId);
+            }
+        }
+    }
+
+    private RateState register(Long concertId, long admitted, long checkout, long now) {
+        RateState state = new RateState(admitted, checkout, now);
+        String tag = concertId.toString();
+        state.admissionGauge = Gauge.builder("queue.admission.rate", state, s -> s.admissionRate)
+                .description("콘서트별 입장 처리량 EWMA (명/초)")
+                .tag("concertId", tag)
+                .register(meterRegistry);
+        state.checkoutGauge = Gauge.builder("queue.checkout.rate", state, s -> s.checkoutRate)
+                .description("콘서트별 결제 완료 처리량 EWMA (건/초)")
+                .tag("concertId", tag)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private void unregister(Long concertId) {
+        RateState state = states.remove(concertId);
+        if (state != null) {
+            meterRegistry.remove(state.admissionGauge);
+            meterRegistry.remove(state.checkoutGauge);
+        }
+    }
+
+    private long parse(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0;
+    }
+
+    /**
+     * 콘서트별 처리량 상태 (샘플링 스레드에서만 갱신)
+     */
+    private static class RateState {
+        private long lastAdmitted;
+        private long lastCheckout;
+        private long lastSampledAt;
+        private volatile double admissionRate;
+        private volatile double checkoutRate;
+        private Gauge admissionGauge;
+        private Gauge checkoutGauge;
+
+        RateState(long admitted, long checkout, long now) {
+            this.lastAdmitted = admitted;
+            this.lastCheckout = checkout;
+            this.lastSampledAt = now;
+        }
+
+        void update(long admitted, long checkout, long now, double windowSeconds) {
+            double elapsed = (now - lastSampledAt) / 1_000_000_000.0;
+            if (elapsed <= 0) {
+                return;
+            }
+            // 샘플 간격이 불규칙해도 같은 시간 창을 갖도록 경과 시간으로 가중치 계산
+            double alpha = 1 - Math.exp(-elapsed / windowSeconds);
+            // Redis 초기화 등으로 카운터가 줄어든 경우 0으로 취급
+            admissionRate += alpha * (Math.max(admitted - lastAdmitted, 0) / elapsed - admissionRate);
+            checkoutRate += alpha * (Math.max(checkout - lastCheckout, 0) / elapsed - checkoutRate);
+
+            lastAdmitted = admitted;
+            lastCheckout = checkout;
+            lastSampledAt = now;
+        }
+    }
+}
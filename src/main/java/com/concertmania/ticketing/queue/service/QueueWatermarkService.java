@@ -0,0 +1,136 @@
+package com.concertmania.ticketing.queue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대기열 워터마크 (대규모 대기열용 선택 모드)
+ * 콘서트·레인별로 "이 대기 번호까지는 대기열을 떠났다"는 값을 주기적으로 기록한다.
+ * 사용자는 (자신의 대기 번호 - 워터마크)로 대략적인 순번을 계산하므로 사용자별 ZRANK 없이 순번을 안내할 수 있고,
+ * 정확한 순번은 앞쪽 일부 구간에서만 계산한다. 중간에 빠진 대기자만큼 실제 순번보다 크게 계산된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueWatermarkService {
+
+    private static final Duration WATERMARK_TTL = Duration.ofHours(24);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueShardRouter queueShardRouter;
+    private final QueueLanes queueLanes;
+    private final QueueSchedulerLock queueSchedulerLock;
+
+    @Value("${queue.watermark.enabled:false}")
+    private boolean enabled;
+
+    @Value("${queue.watermark.interval-ms:1000}")
+    private long intervalMs;
+
+    @Value("${queue.watermark.exact-rank-threshold:1000}")
+    private long exactRankThreshold;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대략 순번이 이 값 이하인 사용자만 정확한 순번을 계산
+     */
+    public long getExactRankThreshold() {
+        return exactRankThreshold;
+    }
+
+    /**
+     * 워터마크 갱신 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.watermark.interval-ms:1000}")
+    public void updateWatermarks() {
+        if (!enabled) {
+            return;
+        }
+        queueSchedulerLock.runExclusively(QueueKeys.WATERMARK_LOCK, intervalMs, this::refreshActiveConcerts);
+    }
+
+    private void refreshActiveConcerts() {
+        Set<String> concertIds = redisTemplate.opsForSet().members(QueueKeys.ACTIVE_CONCERTS);
+        if (concertIds == null) {
+            return;
+        }
+
+        for (String concertId : concertIds) {
+            try {
+                refresh(Long.valueOf(concertId));
+            } catch (Exception e) {
+                log.error("[워터마크] 갱신 실패. Concert: {}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 레인별 워터마크 계산 및 저장
+     * 레인 맨 앞 대기자의 대기 번호 - 1 (레인이 비었으면 현재까지 발급된 마지막 대기 번호)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> refresh(Long concertId) {
+        List<String> lanes = queueLanes.getNames();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().get(QueueKeys.sequence(concertId));
+                lanes.forEach(lane -> queueShardRouter.queueKeys(concertId, lane)
+                        .forEach(key -> operations.opsForZSet().rangeWithScores(key, 0, 0)));
+                return null;
+            }
+        });
+
+        long issued = results.get(0) != null ? Long.parseLong(results.get(0).toString()) : 0;
+        Map<String, Long> watermarks = new LinkedHashMap<>();
+        int index = 1;
+        for (String lane : lanes) {
+            long head = Long.MAX_VALUE;
+            for (int shard = 0; shard < queueShardRouter.getShardCount(); shard++) {
+                for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) results.get(index++)) {
+                    head = Math.min(head, tuple.getScore().longValue());
+                }
+            }
+            watermarks.put(lane, head == Long.MAX_VALUE ? issued : head - 1);
+        }
+
+        Map<String, String> values = new HashMap<>();
+        watermarks.forEach((lane, watermark) -> values.put(lane, String.valueOf(watermark)));
+        String key = QueueKeys.watermark(concertId);
+        redisTemplate.opsForHash().putAll(key, values);
+        redisTemplate.expire(key, WATERMARK_TTL);
+        return watermarks;
+    }
+
+    /**
+     * 저장된 레인별 워터마크 조회 (아직 계산되지 않은 레인은 0)
+     */
+    public Map<String, Long> getWatermarks(Long concertId) {
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(QueueKeys.watermark(concertId));
+        Map<String, Long> watermarks = new LinkedHashMap<>();
+        for (String lane : queueLanes.getNames()) {
+            Object value = values.get(lane);
+            watermarks.put(lane, value != null ? Long.parseLong(value.toString()) : 0);
+        }
+        return watermarks;
+    }
+}
@@ -11,6 +11,9 @@ import com.concertmania.ticketing.reservation.entity.ReservationSeat;
 import com.concertmania.ticketing.reservation.enums.ReservationStatus;
 import com.concertmania.ticketing.reservation.repository.ReservationRepository;
 import com.concertmania.ticketing.reservation.repository.ReservationSeatRepository;
+import com.concertmania.ticketing.seat.service.SeatAvailabilityIndex;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import com.concertmania.ticketing.seat.service.SeatMapService;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.user.enums.UserRole;
 import com.concertmania.ticketing.utils.exception.CustomException;
@@ -35,6 +38,9 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final PaymentRepository paymentRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatMapService seatMapService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
 
     /**
      * 사용자별 예약 조회 (본인 예약만)
@@ -125,6 +131,15 @@ public class ReservationService {
 
         // 예약 상태를 취소로 변경
         reservation.updateStatus(ReservationStatus.CANCELED);
+
+        // 취소된 좌석을 잔여 좌석으로 복구
+        List<ReservationSeat> reservationSeats = reservationSeatRepository.findByReservation(reservation);
+        reservationSeats.forEach(reservationSeat -> {
+            seatInventoryService.markFree(reservationSeat.getSeat());
+            seatAvailabilityIndex.markReserved(reservationSeat.getSeat(), false);
+        });
+        seatMapService.recordChange(reservation.getConcert().getId(),
+                reservationSeats.stream().map(reservationSeat -> reservationSeat.getSeat().getId()).toList());
         
         log.info("[예약 취소 완료] Reservation ID: {}, User ID: {}, Refund Amount: {}", 
                 reservation.getId(), user.getId(), refundAmount);
@@ -1,15 +1,24 @@
 package com.concertmania.ticketing.seat.controller;
 
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.queue.service.QueueAdmissionThrottle;
+import com.concertmania.ticketing.seat.dto.SeatAvailabilityResponse;
 import com.concertmania.ticketing.seat.dto.SeatCreateRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldResponse;
+import com.concertmania.ticketing.seat.dto.SeatReleaseResponse;
 import com.concertmania.ticketing.seat.dto.SeatResponse;
 import com.concertmania.ticketing.seat.dto.SeatSelectResponse;
 import com.concertmania.ticketing.seat.dto.SeatUpdateRequest;
+import com.concertmania.ticketing.seat.service.SeatMapService;
 import com.concertmania.ticketing.seat.service.SeatService;
 import com.concertmania.ticketing.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,6 +34,7 @@ import java.util.List;
 public class SeatController implements com.concertmania.ticketing.seat.docs.SeatControllerDocs {
 
     private final SeatService seatService;
+    private final QueueAdmissionThrottle queueAdmissionThrottle;
 
     @PostMapping("/batch")
     @PreAuthorize("hasRole('ADMIN')")
@@ -39,10 +49,21 @@ public class SeatController implements com.concertmania.ticketing.seat.docs.Seat
         return ResponseEntity.ok(seats);
     }
 
-    @GetMapping("/concert/{concertId}/seat-map")
-    public ResponseEntity<List<SeatResponse>> getSeatSeatMapByConcert(@PathVariable Long concertId) {
-        List<SeatResponse> seats = seatService.getSeatSeatMapByConcert(concertId);
-        return ResponseEntity.ok(seats);
+    @GetMapping(value = "/concert/{concertId}/seat-map", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSeatSeatMapByConcert(@PathVariable Long concertId) {
+        SeatMapService.SeatMap seatMap = seatService.getSeatSeatMapByConcert(concertId);
+        return ResponseEntity.ok()
+                .eTag(seatMap.etag())
+                .cacheControl(CacheControl.noCache())
+                .header(SeatMapService.VERSION_HEADER, String.valueOf(seatMap.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(seatMap.body());
+    }
+
+    @GetMapping("/concert/{concertId}/availability")
+    public ResponseEntity<SeatAvailabilityResponse> getSeatAvailability(@PathVariable Long concertId) {
+        SeatAvailabilityResponse availability = seatService.getSeatAvailability(concertId);
+        return ResponseEntity.ok(availability);
     }
 
     @GetMapping("/concert/{concertId}/seats")
@@ -62,12 +83,37 @@ public class SeatController implements com.concertmania.ticketing.seat.docs.Seat
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<SeatSelectResponse> selectSeat(
             @PathVariable Long id,
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
             @AuthenticationPrincipal User user
     ) {
-        SeatSelectResponse seat = seatService.selectSeat(id, user);
+        // 입장 배치 크기 조절용 처리 시간 기록 (트랜잭션 커밋 포함)
+        SeatSelectResponse seat = queueAdmissionThrottle.recordSeatSelect(() -> seatService.selectSeat(id, user, admissionPass));
         return ResponseEntity.ok(seat);
     }
 
+    @PostMapping("/hold")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<SeatHoldResponse> holdSeats(
+            @Valid @RequestBody SeatHoldRequest request,
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
+            @AuthenticationPrincipal User user
+    ) {
+        // 입장 배치 크기 조절용 처리 시간 기록 (트랜잭션 커밋 포함)
+        SeatHoldResponse response = queueAdmissionThrottle.recordSeatSelect(
+                () -> seatService.holdSeats(request.getSeatIds(), user, admissionPass));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/hold/release")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<SeatReleaseResponse> releaseSeats(
+            @Valid @RequestBody SeatHoldRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        SeatReleaseResponse response = seatService.releaseSeats(request.getSeatIds(), user);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<SeatResponse> updateSeat(@PathVariable Long id, @Valid @RequestBody SeatUpdateRequest request) {
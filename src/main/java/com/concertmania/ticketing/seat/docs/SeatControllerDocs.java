@@ -1,6 +1,11 @@
 package com.concertmania.ticketing.seat.docs;
 
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.seat.dto.SeatAvailabilityResponse;
 import com.concertmania.ticketing.seat.dto.SeatCreateRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldResponse;
+import com.concertmania.ticketing.seat.dto.SeatReleaseResponse;
 import com.concertmania.ticketing.seat.dto.SeatResponse;
 import com.concertmania.ticketing.seat.dto.SeatSelectResponse;
 import com.concertmania.ticketing.seat.dto.SeatUpdateRequest;
@@ -8,6 +13,7 @@ import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.utils.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import jakarta.validation.Valid;
@@ -87,7 +94,7 @@ public interface SeatControllerDocs {
 
     @Operation(
             summary = "콘서트별 좌석 목록 조회",
-            description = "특정 콘서트의 좌석 목록을 페이징으로 조회합니다."
+            description = "특정 콘서트의 좌석 목록을 페이징으로 조회합니다. 예약 여부(reserved)와 선점 여부(held)를 함께 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -116,14 +123,47 @@ public interface SeatControllerDocs {
 
     @Operation(
             summary = "콘서트 좌석 배치도 조회",
-            description = "특정 콘서트의 전체 좌석 배치도를 조회합니다. 구역-행-번호 순으로 정렬됩니다."
+            description = "특정 콘서트의 전체 좌석 배치도를 조회합니다. 구역-행-번호 순으로 정렬되며 예약 여부(reserved)와 선점 여부(held)를 함께 반환합니다. "
+                    + "미리 직렬화된 스냅샷을 반환하며, ETag 로 조건부 요청(If-None-Match)을 지원하고 X-Seat-Map-Version 헤더로 스냅샷 버전을 알려줍니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "좌석 배치도 조회 성공",
                     content = @Content(
-                            mediaType = "application/json"
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SeatResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "좌석 배치도 변경 없음 (If-None-Match 일치)"
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "콘서트를 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<byte[]> getSeatSeatMapByConcert(
+            @Parameter(description = "콘서트 ID", example = "1", required = true)
+            @PathVariable Long concertId
+    );
+
+    @Operation(
+            summary = "잔여 좌석 수 조회",
+            description = "선점되지 않고 예약되지 않은 좌석 수를 전체/등급별로 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "잔여 좌석 수 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SeatAvailabilityResponse.class)
                     )
             ),
             @ApiResponse(
@@ -135,14 +175,14 @@ public interface SeatControllerDocs {
                     )
             )
     })
-    ResponseEntity<List<SeatResponse>> getSeatSeatMapByConcert(
+    ResponseEntity<SeatAvailabilityResponse> getSeatAvailability(
             @Parameter(description = "콘서트 ID", example = "1", required = true)
             @PathVariable Long concertId
     );
 
     @Operation(
             summary = "등급별 좌석 조회",
-            description = "특정 콘서트의 특정 등급 좌석만 조회합니다."
+            description = "특정 콘서트의 특정 등급 좌석만 조회합니다. 예약 여부(reserved)와 선점 여부(held)를 함께 반환합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -300,7 +340,7 @@ public interface SeatControllerDocs {
 
     @Operation(
             summary = "좌석 선택",
-            description = "좌석을 선택하여 10분간 임시 점유합니다. 일반 사용자 권한이 필요합니다."
+            description = "좌석을 선택하여 10분간 임시 점유합니다. 일반 사용자 권한과 대기열 입장 시 발급된 입장권(X-Admission-Pass 헤더)이 필요합니다."
     )
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
@@ -322,7 +362,7 @@ public interface SeatControllerDocs {
             ),
             @ApiResponse(
                     responseCode = "403",
-                    description = "권한 없음 - 일반 사용자 권한 필요",
+                    description = "권한 없음 - 일반 사용자 권한 필요 또는 유효하지 않은 입장권",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)
@@ -348,8 +388,91 @@ public interface SeatControllerDocs {
     ResponseEntity<SeatSelectResponse> selectSeat(
             @Parameter(description = "좌석 ID", example = "1", required = true)
             @PathVariable Long id,
-            
+
+            @Parameter(description = "대기열 입장권", required = true)
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal User user
+    );
+
+    @Operation(
+            summary = "여러 좌석 동시 선택",
+            description = "여러 좌석을 한 번에 선택하여 10분간 임시 점유합니다. 모든 좌석을 점유하거나 하나도 점유하지 않으며, 모든 좌석이 같은 시각에 만료됩니다. "
+                    + "이미 본인이 선택한 좌석이 포함되면 함께 만료 시간이 갱신됩니다. 일반 사용자 권한과 대기열 입장권(X-Admission-Pass 헤더)이 필요합니다."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "좌석 선택 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SeatHoldResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 - 일반 사용자 권한 필요 또는 유효하지 않은 입장권",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "좌석 점유 실패 - 다른 사용자가 선택했거나 이미 예약된 좌석 포함 (아무 좌석도 점유하지 않음, 다른 사용자가 선택한 좌석은 메시지에 좌석 ID 표시)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "최대 좌석 수 초과, 중복 좌석 또는 다른 콘서트의 좌석 포함",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<SeatHoldResponse> holdSeats(
+            @Valid @RequestBody SeatHoldRequest request,
+
+            @Parameter(description = "대기열 입장권", required = true)
+            @RequestHeader(value = JwtTokenProvider.ADMISSION_PASS_HEADER, required = false) String admissionPass,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal User user
+    );
+
+    @Operation(
+            summary = "여러 좌석 선택 해제",
+            description = "본인이 선택한 좌석들의 임시 점유를 한 번에 해제합니다. 다른 사용자가 선택했거나 선택하지 않은 좌석은 건너뜁니다."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "좌석 선택 해제 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SeatReleaseResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "최대 좌석 수 초과, 중복 좌석 또는 다른 콘서트의 좌석 포함",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ResponseEntity<SeatReleaseResponse> releaseSeats(
+            @Valid @RequestBody SeatHoldRequest request,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal User user
     );
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.concertmania.ticketing.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "잔여 좌석 응답 DTO")
+public class SeatAvailabilityResponse {
+
+    private static final String ALL_GRADES = "__all";
+
+    @Schema(description = "콘서트 ID", example = "1")
+    private Long concertId;
+
+    @Schema(description = "전체 잔여 좌석 수", example = "120")
+    private long freeSeats;
+
+    @Schema(description = "등급별 잔여 좌석 수", example = "{\"VIP\": 20, \"R\": 100}")
+    private Map<String, Long> freeSeatsByGrade;
+
+    public static SeatAvailabilityResponse from(Long concertId, Map<String, Long> freeSeatCounts) {
+        Map<String, Long> byGrade = new LinkedHashMap<>(freeSeatCounts);
+        Long total = byGrade.remove(ALL_GRADES);
+        return new SeatAvailabilityResponse(concertId, total != null ? total : 0L, byGrade);
+    }
+}
@@ -0,0 +1,20 @@
+package com.concertmania.ticketing.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여러 좌석 선점/해제 요청 DTO")
+public class SeatHoldRequest {
+
+    @NotEmpty(message = "좌석 ID 목록은 필수입니다.")
+    @Schema(description = "좌석 ID 목록 (같은 콘서트의 좌석)", example = "[1, 2, 3, 4]")
+    private List<Long> seatIds;
+}
@@ -0,0 +1,22 @@
+package com.concertmania.ticketing.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여러 좌석 선점 응답 DTO")
+public class SeatHoldResponse {
+
+    @Schema(description = "선점한 좌석 목록")
+    private List<SeatSelectResponse> seats;
+
+    @Schema(description = "좌석 선점 만료 시간 (모든 좌석 공통)", example = "2024-01-01T10:10:00")
+    private LocalDateTime expiresAt;
+}
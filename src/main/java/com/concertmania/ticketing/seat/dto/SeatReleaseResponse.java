@@ -0,0 +1,18 @@
+package com.concertmania.ticketing.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여러 좌석 선점 해제 응답 DTO")
+public class SeatReleaseResponse {
+
+    @Schema(description = "해제한 좌석 ID 목록 (본인이 선점하지 않은 좌석은 제외)", example = "[1, 2]")
+    private List<Long> releasedSeatIds;
+}
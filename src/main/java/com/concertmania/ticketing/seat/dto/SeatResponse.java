@@ -42,6 +42,9 @@ public class SeatResponse {
     @Schema(description = "예약 여부", example = "false")
     private boolean isReserved;
 
+    @Schema(description = "선점 여부 (다른 사용자가 선택해 결제 대기 중인 좌석)", example = "false")
+    private boolean isHeld;
+
     @Schema(description = "생성 일시", example = "2024-01-01T10:00:00")
     private LocalDateTime createdAt;
 
@@ -49,6 +52,10 @@ public class SeatResponse {
     private LocalDateTime updatedAt;
 
     public static SeatResponse from(Seat seat, boolean isReserved) {
+        return from(seat, isReserved, false);
+    }
+
+    public static SeatResponse from(Seat seat, boolean isReserved, boolean isHeld) {
         return new SeatResponse(
                 seat.getId(),
                 seat.getConcert().getId(),
@@ -59,6 +66,7 @@ public class SeatResponse {
                 seat.getGrade(),
                 seat.getPrice(),
                 isReserved,
+                isHeld,
                 seat.getCreatedAt(),
                 seat.getUpdatedAt()
         );
@@ -0,0 +1,60 @@
+package com.concertmania.ticketing.seat.listener;
+
+import com.concertmania.ticketing.seat.service.SeatAvailabilityIndex;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import com.concertmania.ticketing.seat.service.SeatMapService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 좌석 락(seat_lock:*) 만료 이벤트 수신 → 잔여 좌석 카운터 복구, 좌석 선점 비트 해제, 좌석 배치도 갱신
+ * 만료 이벤트는 Redis 서버의 notify-keyspace-events 설정(Ex 포함)이 있어야 발행된다.
+ * 이벤트가 유실되어도 잔여 좌석 카운터는 SeatInventoryService 의 주기 보정으로 복구된다.
+ */
+@Slf4j
+@Component
+public class SeatLockExpirationListener extends KeyExpirationEventMessageListener {
+
+    private static final String SEAT_LOCK_KEY = "seat_lock:";
+
+    private final SeatInventoryService seatInventoryService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final SeatMapService seatMapService;
+
+    public SeatLockExpirationListener(RedisMessageListenerContainer listenerContainer,
+                                      SeatInventoryService seatInventoryService,
+                                      SeatAvailabilityIndex seatAvailabilityIndex,
+                                      SeatMapService seatMapService,
+                                      @Value("${seat.lock.keyspace-notifications:}") String keyspaceNotifications) {
+        super(listenerContainer);
+        this.seatInventoryService = seatInventoryService;
+        this.seatAvailabilityIndex = seatAvailabilityIndex;
+        this.seatMapService = seatMapService;
+        // 비어 있으면 CONFIG SET 을 호출하지 않음 (관리형 Redis 는 CONFIG 명령이 막혀 있어 서버 설정으로 켠다)
+        setKeyspaceNotificationsConfigParameter(keyspaceNotifications);
+    }
+
+    @Override
+    protected void doHandleMessage(Message message) {
+        String expiredKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!expiredKey.startsWith(SEAT_LOCK_KEY)) {
+            return;
+        }
+
+        try {
+            Long seatId = Long.valueOf(expiredKey.substring(SEAT_LOCK_KEY.length()));
+            seatInventoryService.onLockExpired(seatId);
+            seatAvailabilityIndex.onLockExpired(seatId)
+                    .ifPresent(seat -> seatMapService.recordChange(seat.getConcert().getId(), List.of(seatId)));
+        } catch (Exception e) {
+            log.error("[좌석 락 만료 처리 실패] Key: {}", expiredKey, e);
+        }
+    }
+}
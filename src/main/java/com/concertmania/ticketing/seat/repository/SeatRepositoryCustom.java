@@ -33,4 +33,7 @@ public interface SeatRepositoryCustom {
     // 예약 가능 상태의 좌석 카운팅
     List<Seat> findByAvailableSeat(Long concertId);
 
+    // 콘서트별 활성 예약(결제 진행중, 예약 확정) 좌석 ID 조회
+    List<Long> findActiveReservedSeatIds(Long concertId);
+
 }
\ No newline at end of file
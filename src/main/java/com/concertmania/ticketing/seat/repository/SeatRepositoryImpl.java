@@ -20,16 +20,21 @@ import org.springframework.stereotype.Repository;
 import javax.swing.text.html.Option;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class SeatRepositoryImpl implements SeatRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+
+    // PostgreSQL 바인드 파라미터 한도(32767) 이하
+    private static final int IN_CLAUSE_BATCH_SIZE = 10_000;
+
     QSeat seat = QSeat.seat;
     QReservationSeat reservationSeat = QReservationSeat.reservationSeat;
     QConcert concert = QSeat.seat.concert;
@@ -158,42 +163,43 @@ public class SeatRepositoryImpl implements SeatRepositoryCustom {
             return new HashMap<>();
         }
 
-        // 활성 예약이 있는 좌석 ID들 조회
-        List<Long> reservedSeatIds = queryFactory
-                .select(reservationSeat.seat.id)
-                .from(reservationSeat)
-                .where(
-                        reservationSeat.seat.id.in(seatIds)
-                                .and(reservationSeat.reservation.status.in(
-                                        ReservationStatus.IN_PROGRESS,
-                                        ReservationStatus.CONFIRMED
-                                ))
-                )
-                .fetch();
+        // 활성 예약이 있는 좌석 ID들 조회 - 좌석 ID 컬럼만 조회 (엔티티 로딩 없음), IN 절 바인드 파라미터 한도를 넘지 않도록 나누어 조회
+        Set<Long> reservedSeatIds = new HashSet<>();
+        for (int from = 0; from < seatIds.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            List<Long> batch = seatIds.subList(from, Math.min(from + IN_CLAUSE_BATCH_SIZE, seatIds.size()));
+            reservedSeatIds.addAll(queryFactory
+                    .select(reservationSeat.seat.id)
+                    .distinct()
+                    .from(reservationSeat)
+                    .where(
+                            reservationSeat.seat.id.in(batch)
+                                    .and(reservationSeat.reservation.status.in(
+                                            ReservationStatus.IN_PROGRESS,
+                                            ReservationStatus.CONFIRMED
+                                    ))
+                    )
+                    .fetch());
+        }
 
-        // 모든 좌석 ID에 대해 예약 상태 매핑
-        return seatIds.stream()
-                .collect(Collectors.toMap(
-                        seatId -> seatId,
-                        seatId -> reservedSeatIds.contains(seatId)
-                ));
+        return toReservationStatusMap(seatIds, reservedSeatIds);
+    }
+
+    /**
+     * 모든 좌석 ID에 대해 예약 상태 매핑 - 예약 좌석은 HashSet 으로 조회해 좌석 수에 비례하는 시간으로 처리
+     */
+    static Map<Long, Boolean> toReservationStatusMap(List<Long> seatIds, Set<Long> reservedSeatIds) {
+        Map<Long, Boolean> statusMap = new HashMap<>((int) (seatIds.size() / 0.75f) + 1);
+        for (Long seatId : seatIds) {
+            statusMap.put(seatId, reservedSeatIds.contains(seatId));
+        }
+        return statusMap;
     }
 
     @Override
     public List<Seat> findByAvailableSeat(Long concertId) {
 
         // 예약된 좌석 중 사용 불가능한 상태의 좌석 ID들 조회
-        List<Long> unavailableSeatIds = queryFactory
-                .select(reservationSeat.seat.id)
-                .from(reservationSeat)
-                .where(
-                    reservationSeat.seat.concert.id.eq(concertId)
-                            .and(reservationSeat.reservation.status.in(
-                                    ReservationStatus.IN_PROGRESS,
-                                    ReservationStatus.CONFIRMED
-                            ))
-                )
-                .fetch();
+        List<Long> unavailableSeatIds = findActiveReservedSeatIds(concertId);
 
         // 전체 좌석 중 사용 불가능한 좌석을 제외한 좌석들 조회
         BooleanBuilder whereCondition = new BooleanBuilder();
@@ -209,5 +215,18 @@ public class SeatRepositoryImpl implements SeatRepositoryCustom {
                 .fetch();
     }
 
-
+    @Override
+    public List<Long> findActiveReservedSeatIds(Long concertId) {
+        return queryFactory
+                .select(reservationSeat.seat.id)
+                .from(reservationSeat)
+                .where(
+                    reservationSeat.seat.concert.id.eq(concertId)
+                            .and(reservationSeat.reservation.status.in(
+                                    ReservationStatus.IN_PROGRESS,
+                                    ReservationStatus.CONFIRMED
+                            ))
+                )
+                .fetch();
+    }
 }
\ No newline at end of file
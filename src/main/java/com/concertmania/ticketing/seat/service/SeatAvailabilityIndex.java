@@ -0,0 +1,263 @@
+package com.concertmania.ticketing.seat.service;
+
+import com.concertmania.ticketing.seat.entity.Seat;
+import com.concertmania.ticketing.seat.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 콘서트별 좌석 가용성 비트맵
+ * 콘서트의 좌석마다 조밀한 순번을 배정하고, 예약(reserved) / 선점(held) 상태를 순번 위치의 비트로 Redis 비트맵에 보관한다.
+ * 좌석 선점/해제, 결제 시작/실패, 예약 취소가 커밋된 뒤 SETBIT 으로 갱신되어, 좌석 목록 조회 시 예약 테이블 조인 없이
+ * 순번 조회(HMGET)와 두 비트맵 조회(MGET)를 한 번의 파이프라인으로 읽는다.
+ * 삭제된 좌석은 목록 조회 대상에서 빠지므로 순번만 남겨 두고 따로 표시하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SeatAvailabilityIndex {
+
+    private final SeatRepository seatRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String SEAT_LOCK_KEY = "seat_lock:";
+    private static final String AVAILABILITY_KEY = "seat:availability:";
+
+    private static final RedisScript<Long> MARK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-availability-mark.lua"), Long.class);
+    private static final RedisScript<Long> ASSIGN_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-availability-assign.lua"), Long.class);
+
+    /**
+     * 좌석 선점 상태 반영 (좌석 락 획득 / 해제 / 만료) - 트랜잭션 커밋 후 반영
+     */
+    public void markHeld(Seat seat, boolean held) {
+        mark(seat, heldKey(seat.getConcert().getId()), held);
+    }
+
+    /**
+     * 좌석 예약 상태 반영 (결제 시작 / 결제 실패 / 예약 취소) - 트랜잭션 커밋 후 반영
+     */
+    public void markReserved(Seat seat, boolean reserved) {
+        mark(seat, reservedKey(seat.getConcert().getId()), reserved);
+    }
+
+    /**
+     * 좌석 락 만료 시 선점 비트 해제
+     * @return 해제한 좌석 (삭제된 좌석이면 빈 값)
+     */
+    public Optional<Seat> onLockExpired(Long seatId) {
+        Optional<Seat> seat = seatRepository.findByIdAndDeletedAtIsNull(seatId);
+        seat.ifPresent(expired -> markHeld(expired, false));
+        return seat;
+    }
+
+    /**
+     * 신규 좌석 순번 배정 (좌석 생성 시) - 트랜잭션 커밋 후 반영, 인덱스가 없으면 다음 조회 시 재구성된다
+     */
+    public void assign(Long concertId, List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        // 롤백된 좌석에는 순번을 배정하지 않음
+        afterCommit(() -> assignOrdinals(concertId, seats));
+    }
+
+    private void assignOrdinals(Long concertId, List<Seat> seats) {
+        redisTemplate.execute(
+                ASSIGN_SCRIPT,
+                List.of(ordinalsKey(concertId), nextKey(concertId)),
+                seats.stream().map(seat -> seat.getId().toString()).toArray()
+        );
+    }
+
+    /**
+     * 좌석 가용성 조회
+     * 인덱스가 없거나 (최초 조회, Redis 재시작 등) 순번이 없는 좌석이 있으면 DB 기준으로 재구성 후 다시 조회한다.
+     */
+    public SeatAvailability read(Long concertId, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return new SeatAvailability(Map.of(), new byte[0], new byte[0]);
+        }
+
+        SeatAvailability availability = fetch(concertId, seatIds);
+        if (availability.ordinals().size() < seatIds.size()) {
+            rebuild(concertId);
+            availability = fetch(concertId, seatIds);
+        }
+        return availability;
+    }
+
+    // 롤백된 선점/결제/취소가 비트맵에 남지 않도록 커밋 후 기록
+    private void mark(Seat seat, String bitmapKey, boolean value) {
+        List<String> keys = List.of(ordinalsKey(seat.getConcert().getId()), bitmapKey);
+        String seatId = seat.getId().toString();
+        afterCommit(() -> redisTemplate.execute(MARK_SCRIPT, keys, seatId, value ? "1" : "0"));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 순번 조회(HMGET) + 비트맵 조회(MGET) - 비트맵은 문자열 직렬화를 거치지 않도록 원시 바이트로 읽는다
+     */
+    @SuppressWarnings("unchecked")
+    private SeatAvailability fetch(Long concertId, List<Long> seatIds) {
+        byte[][] fields = seatIds.stream()
+                .map(seatId -> bytes(seatId.toString()))
+                .toArray(byte[][]::new);
+
+        List<Object> results = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            connection.hashCommands().hMGet(bytes(ordinalsKey(concertId)), fields);
+            connection.stringCommands().mGet(bytes(reservedKey(concertId)), bytes(heldKey(concertId)));
+            return connection.closePipeline();
+        });
+
+        List<byte[]> ordinalValues = (List<byte[]>) results.get(0);
+        List<byte[]> bitmaps = (List<byte[]>) results.get(1);
+
+        Map<Long, Integer> ordinals = new HashMap<>(seatIds.size() * 2);
+        for (int i = 0; i < seatIds.size(); i++) {
+            byte[] ordinal = ordinalValues.get(i);
+            if (ordinal != null) {
+                ordinals.put(seatIds.get(i), Integer.valueOf(new String(ordinal, StandardCharsets.UTF_8)));
+            }
+        }
+        return new SeatAvailability(ordinals, orEmpty(bitmaps.get(0)), orEmpty(bitmaps.get(1)));
+    }
+
+    /**
+     * DB 예약 상태와 Redis 좌석 락을 기준으로 순번과 비트맵 재구성
+     * 비트맵은 메모리에서 만든 뒤 SET 으로 한 번에 기록한다.
+     */
+    private void rebuild(Long concertId) {
+        List<Seat> seats = seatRepository.findByConcertIdNotDeleted(concertId);
+        Set<Long> reservedSeatIds = new HashSet<>(seatRepository.findActiveReservedSeatIds(concertId));
+
+        List<String> lockOwners = new ArrayList<>();
+        if (!seats.isEmpty()) {
+            List<String> lockKeys = seats.stream()
+                    .map(seat -> SEAT_LOCK_KEY + seat.getId())
+                    .toList();
+            lockOwners = redisTemplate.opsForValue().multiGet(lockKeys);
+        }
+
+        Map<byte[], byte[]> ordinals = new HashMap<>(seats.size() * 2);
+        byte[] reserved = new byte[(seats.size() + 7) / 8];
+        byte[] held = new byte[(seats.size() + 7) / 8];
+        for (int ordinal = 0; ordinal < seats.size(); ordinal++) {
+            Seat seat = seats.get(ordinal);
+            ordinals.put(bytes(seat.getId().toString()), bytes(String.valueOf(ordinal)));
+            if (reservedSeatIds.contains(seat.getId())) {
+                setBit(reserved, ordinal);
+            }
+            if (lockOwners != null && lockOwners.get(ordinal) != null) {
+                setBit(held, ordinal);
+            }
+        }
+
+        byte[] ordinalsKey = bytes(ordinalsKey(concertId));
+        byte[] nextKey = bytes(nextKey(concertId));
+        byte[] reservedKey = bytes(reservedKey(concertId));
+        byte[] heldKey = bytes(heldKey(concertId));
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.multi();
+            connection.keyCommands().del(ordinalsKey, nextKey, reservedKey, heldKey);
+            connection.stringCommands().set(nextKey, bytes(String.valueOf(seats.size())));
+            connection.stringCommands().set(reservedKey, reserved);
+            connection.stringCommands().set(heldKey, held);
+            // 순번 HASH 를 마지막에 기록 (HASH 존재 여부가 초기화 완료 표시)
+            if (!ordinals.isEmpty()) {
+                connection.hashCommands().hMSet(ordinalsKey, ordinals);
+            }
+            return connection.exec();
+        });
+
+        log.info("[좌석 가용성 비트맵 재구성] Concert: {}, 좌석: {}", concertId, seats.size());
+    }
+
+    // Redis 비트맵은 바이트의 최상위 비트부터 순번 0
+    private static void setBit(byte[] bitmap, int ordinal) {
+        bitmap[ordinal >>> 3] |= (byte) (0x80 >>> (ordinal & 7));
+    }
+
+    private static boolean getBit(byte[] bitmap, int ordinal) {
+        int index = ordinal >>> 3;
+        return index < bitmap.length && (bitmap[index] & (0x80 >>> (ordinal & 7))) != 0;
+    }
+
+    private static byte[] orEmpty(byte[] bitmap) {
+        return bitmap != null ? bitmap : new byte[0];
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 클러스터 환경에서도 같은 슬롯에 배치되도록 콘서트 ID를 해시 태그로 사용
+    private String ordinalsKey(Long concertId) {
+        return AVAILABILITY_KEY + "{" + concertId + "}:ordinals";
+    }
+
+    private String nextKey(Long concertId) {
+        return AVAILABILITY_KEY + "{" + concertId + "}:next";
+    }
+
+    private String reservedKey(Long concertId) {
+        return AVAILABILITY_KEY + "{" + concertId + "}:reserved";
+    }
+
+    private String heldKey(Long concertId) {
+        return AVAILABILITY_KEY + "{" + concertId + "}:held";
+    }
+
+    /**
+     * 좌석 가용성 조회 결과
+     * @param ordinals 좌석 ID → 순번 (조회한 좌석 중 순번이 있는 좌석만)
+     */
+    public record SeatAvailability(Map<Long, Integer> ordinals, byte[] reserved, byte[] held) {
+
+        public boolean isReserved(Long seatId) {
+            return isSet(reserved, seatId);
+        }
+
+        public boolean isHeld(Long seatId) {
+            return isSet(held, seatId);
+        }
+
+        private boolean isSet(byte[] bitmap, Long seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            return ordinal != null && getBit(bitmap, ordinal);
+        }
+    }
+}
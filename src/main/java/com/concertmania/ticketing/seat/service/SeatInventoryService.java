@@ -0,0 +1,304 @@
+package com.concertmania.ticketing.seat.service;
+
+import com.concertmania.ticketing.queue.service.QueueSchedulerLock;
+import com.concertmania.ticketing.seat.entity.Seat;
+import com.concertmania.ticketing.seat.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 콘서트별 잔여 좌석(선점되지 않고 예약되지 않은 좌석) 카운터
+ * 좌석 선점/해제/예약/취소 시점에 갱신되어, 입장 가능 여부를 좌석 전체 조회 없이 O(1)로 판단한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SeatInventoryService {
+
+    private final SeatRepository seatRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QueueSchedulerLock queueSchedulerLock;
+
+    private static final String SEAT_LOCK_KEY = "seat_lock:";
+    private static final String INVENTORY_KEY = "seat:inventory:";
+    private static final String CONCERTS_KEY = INVENTORY_KEY + "concerts"; // 카운터가 구성된 콘서트 ID SET
+    private static final String RECONCILE_LOCK = INVENTORY_KEY + "reconcile:lock";
+    private static final String ALL_GRADES = "__all";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FREE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-inventory-free.lua"), List.class);
+    private static final RedisScript<Long> MARK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-inventory-mark.lua"), Long.class);
+
+    @Value("${seat.inventory.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;
+
+    /**
+     * 예약 가능한 (선점되지 않은) 좌석이 하나라도 있는지 확인
+     */
+    public boolean hasFreeSeat(Long concertId) {
+        return getFreeSeatCount(concertId) > 0;
+    }
+
+    /**
+     * 잔여 좌석 수 조회
+     */
+    public long getFreeSeatCount(Long concertId) {
+        return getFreeSeatCountByGrade(concertId).getOrDefault(ALL_GRADES, 0L);
+    }
+
+    /**
+     * 등급별 잔여 좌석 수 조회 ('__all' 키에 전체 잔여 좌석 수 포함)
+     */
+    public Map<String, Long> getFreeSeatCountByGrade(Long concertId) {
+        Map<String, Long> freeSeats = readFreeSeats(concertId);
+        if (freeSeats.isEmpty()) {
+            // 카운터가 없으면 (최초 조회, Redis 재시작 등) DB 기준으로 재구성
+            rebuild(concertId);
+            freeSeats = readFreeSeats(concertId);
+        }
+        return freeSeats;
+    }
+
+    /**
+     * 좌석 점유 처리 (좌석 선점, 결제 완료) - 트랜잭션 커밋 후 반영
+     */
+    public void markTaken(Seat seat) {
+        mark(seat, "taken");
+    }
+
+    /**
+     * 좌석 점유 해제 처리 (결제 실패, 예약 취소) - 트랜잭션 커밋 후 반영
+     */
+    public void markFree(Seat seat) {
+        mark(seat, "free");
+    }
+
+    /**
+     * 좌석 락 만료 시 처리 - 결제가 진행 중이거나 완료된 좌석은 계속 점유 상태로 둔다
+     */
+    public void onLockExpired(Long seatId) {
+        seatRepository.findByIdAndDeletedAtIsNull(seatId).ifPresent(seat -> {
+            if (!seatRepository.hasActiveReservations(seatId)) {
+                markFree(seat);
+                log.info("[좌석 락 만료] 잔여 좌석 복구. Concert: {}, Seat: {}", seat.getConcert().getId(), seatId);
+            }
+        });
+    }
+
+    /**
+     * 점유 좌석 보정 (주기 실행)
+     * 락 만료 알림은 전달이 보장되지 않으므로 (구독 끊김, 알림 설정 누락 등) 놓친 만료를 주기적으로 잔여 좌석에 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${seat.inventory.reconcile-interval-ms:60000}")
+    public void reconcileTakenSeats() {
+        queueSchedulerLock.runExclusively(RECONCILE_LOCK, reconcileIntervalMs, () -> {
+            Set<String> concertIds = redisTemplate.opsForSet().members(CONCERTS_KEY);
+            if (concertIds == null) {
+                return;
+            }
+            for (String concertId : concertIds) {
+                try {
+                    reconcile(Long.valueOf(concertId));
+                } catch (Exception e) {
+                    log.error("[잔여 좌석 보정] 처리 실패. Concert: {}", concertId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 좌석 락도 활성 예약도 없이 점유로 남은 좌석을 잔여 좌석으로 복구
+     * 좌석 락을 먼저 조회한 뒤 예약을 조회해, 그 사이 결제가 시작된 좌석은 점유 상태로 둔다.
+     * @return 복구한 좌석 수
+     */
+    public int reconcile(Long concertId) {
+        Set<String> taken = redisTemplate.opsForSet().members(takenKey(concertId));
+        if (taken == null || taken.isEmpty()) {
+            return 0;
+        }
+
+        List<String> seatIds = new ArrayList<>(taken);
+        List<String> lockOwners = redisTemplate.opsForValue().multiGet(
+                seatIds.stream().map(seatId -> SEAT_LOCK_KEY + seatId).toList());
+        Set<Long> reservedSeatIds = new HashSet<>(seatRepository.findActiveReservedSeatIds(concertId));
+
+        List<Long> staleSeatIds = new ArrayList<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            Long seatId = Long.valueOf(seatIds.get(i));
+            boolean held = lockOwners != null && lockOwners.get(i) != null;
+            if (!held && !reservedSeatIds.contains(seatId)) {
+                staleSeatIds.add(seatId);
+            }
+        }
+        if (staleSeatIds.isEmpty()) {
+            return 0;
+        }
+
+        seatRepository.findAllById(staleSeatIds).forEach(seat -> mark(seat, "free"));
+        log.warn("[잔여 좌석 보정] 만료 처리가 누락된 좌석 복구. Concert: {}, Seats: {}", concertId, staleSeatIds);
+        return staleSeatIds.size();
+    }
+
+    /**
+     * 카운터 초기화 (좌석 생성/수정/삭제 시) - 트랜잭션 종료 후 반영, 다음 조회 시 DB 기준으로 재구성된다
+     */
+    public void invalidate(Long concertId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(concertId);
+            return;
+        }
+        // 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 DB 상태로 카운터를 재구성해 남길 수 있음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(concertId);
+            }
+        });
+    }
+
+    /**
+     * 카운터 즉시 삭제
+     */
+    public void evict(Long concertId) {
+        String totalKey = totalKey(concertId);
+        String takenKey = takenKey(concertId);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(totalKey);
+        keys.add(takenKey);
+        for (Object grade : redisTemplate.opsForHash().keys(totalKey)) {
+            keys.add(takenKey + ":" + grade);
+        }
+        redisTemplate.delete(keys);
+    }
+
+    // 롤백된 선점/결제/취소가 카운터에 남지 않도록 커밋 후 기록
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void mark(Seat seat, String state) {
+        String takenKey = takenKey(seat.getConcert().getId());
+        List<String> keys = List.of(totalKey(seat.getConcert().getId()), takenKey, takenKey + ":" + seat.getGrade());
+        String seatId = seat.getId().toString();
+        afterCommit(() -> redisTemplate.execute(MARK_SCRIPT, keys, seatId, state));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> readFreeSeats(Long concertId) {
+        List<String> result = redisTemplate.execute(
+                FREE_SCRIPT,
+                List.of(totalKey(concertId), takenKey(concertId))
+        );
+
+        Map<String, Long> freeSeats = new LinkedHashMap<>();
+        if (result == null) {
+            return freeSeats;
+        }
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            freeSeats.put(result.get(i), Long.parseLong(result.get(i + 1)));
+        }
+        return freeSeats;
+    }
+
+    /**
+     * DB 예약 상태와 Redis 좌석 락을 기준으로 카운터 재구성
+     * 좌석 락은 한 번의 MGET 으로 조회한다.
+     */
+    private void rebuild(Long concertId) {
+        List<Seat> seats = seatRepository.findByConcertIdNotDeleted(concertId);
+        Set<Long> reservedSeatIds = new HashSet<>(seatRepository.findActiveReservedSeatIds(concertId));
+
+        List<String> lockOwners = new ArrayList<>();
+        if (!seats.isEmpty()) {
+            List<String> lockKeys = seats.stream()
+                    .map(seat -> SEAT_LOCK_KEY + seat.getId())
+                    .toList();
+            lockOwners = redisTemplate.opsForValue().multiGet(lockKeys);
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        Map<String, List<String>> takenByGrade = new HashMap<>();
+        totals.put(ALL_GRADES, (long) seats.size());
+
+        for (int i = 0; i < seats.size(); i++) {
+            Seat seat = seats.get(i);
+            totals.merge(seat.getGrade(), 1L, Long::sum);
+
+            boolean held = lockOwners != null && lockOwners.get(i) != null;
+            if (held || reservedSeatIds.contains(seat.getId())) {
+                takenByGrade.computeIfAbsent(seat.getGrade(), grade -> new ArrayList<>())
+                        .add(seat.getId().toString());
+            }
+        }
+
+        String totalKey = totalKey(concertId);
+        String takenKey = takenKey(concertId);
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.delete(takenKey);
+                totals.keySet().forEach(grade -> operations.delete(takenKey + ":" + grade));
+                takenByGrade.forEach((grade, seatIds) -> {
+                    operations.opsForSet().add(takenKey, seatIds.toArray());
+                    operations.opsForSet().add(takenKey + ":" + grade, seatIds.toArray());
+                });
+                // 전체 좌석 수 HASH 를 마지막에 기록 (HASH 존재 여부가 초기화 완료 표시)
+                Map<String, String> totalValues = new HashMap<>();
+                totals.forEach((grade, count) -> totalValues.put(grade, count.toString()));
+                operations.opsForHash().putAll(totalKey, totalValues);
+                return operations.exec();
+            }
+        });
+
+        // 보정 대상 등록 (해시 태그가 다른 키라 트랜잭션 밖에서 기록)
+        redisTemplate.opsForSet().add(CONCERTS_KEY, concertId.toString());
+
+        log.info("[잔여 좌석 카운터 재구성] Concert: {}, 전체: {}, 점유: {}",
+                concertId, seats.size(), takenByGrade.values().stream().mapToInt(List::size).sum());
+    }
+
+    // 클러스터 환경에서도 같은 슬롯에 배치되도록 콘서트 ID를 해시 태그로 사용
+    private String totalKey(Long concertId) {
+        return INVENTORY_KEY + "{" + concertId + "}:total";
+    }
+
+    private String takenKey(Long concertId) {
+        return INVENTORY_KEY + "{" + concertId + "}:taken";
+    }
+}
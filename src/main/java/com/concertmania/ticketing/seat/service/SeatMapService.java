@@ -0,0 +1,276 @@
+package com.concertmania.ticketing.seat.service;
+
+import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.seat.dto.SeatResponse;
+import com.concertmania.ticketing.seat.entity.Seat;
+import com.concertmania.ticketing.seat.repository.SeatRepository;
+import com.concertmania.ticketing.utils.exception.CustomException;
+import com.concertmania.ticketing.utils.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 콘서트별 좌석 배치도 스냅샷 캐시
+ * 좌석 배치도를 좌석별로 미리 직렬화한 JSON 조각과 버전으로 메모리에 보관하고, 모든 요청이 같은 바이트 배열을 공유한다.
+ * 예약 상태가 바뀌면 Redis 의 콘서트별 버전을 올리고 바뀐 좌석을 기록하며, 각 인스턴스는 버전이 바뀐 것을 보면
+ * 바뀐 좌석만 다시 조회해 새 스냅샷을 만든다 (기존 스냅샷은 변경하지 않음). 좌석 구성 변경 시에는 전체를 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SeatMapService {
+
+    public static final String VERSION_HEADER = "X-Seat-Map-Version";
+
+    private static final String SEAT_MAP_KEY = "seat:map:";
+    private static final String FULL_REBUILD = "*";
+
+    private static final RedisScript<Long> CHANGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-map-change.lua"), Long.class);
+
+    private final SeatRepository seatRepository;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final ConcertRepository concertRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Holder> holders = new ConcurrentHashMap<>();
+
+    @Value("${seat.map.version-check-ms:100}")
+    private long versionCheckMs;
+
+    /**
+     * 좌석 배치도 조회 - 마지막 버전 확인 후 version-check-ms 이내면 Redis 조회 없이 메모리 스냅샷을 반환
+     */
+    public SeatMap getSeatMap(Long concertId) {
+        Holder holder = holders.computeIfAbsent(concertId, id -> new Holder());
+        SeatMap current = holder.seatMap;
+        if (current != null && System.currentTimeMillis() - holder.checkedAt < versionCheckMs) {
+            return current;
+        }
+
+        synchronized (holder) {
+            current = holder.seatMap;
+            long now = System.currentTimeMillis();
+            if (current != null && now - holder.checkedAt < versionCheckMs) {
+                return current;
+            }
+            try {
+                holder.seatMap = refresh(concertId, current);
+            } catch (CustomException e) {
+                holders.remove(concertId, holder);
+                throw e;
+            }
+            holder.checkedAt = now;
+            return holder.seatMap;
+        }
+    }
+
+    /**
+     * 좌석 예약/선점 상태 변경 기록 (예약 생성/확정/실패/취소, 좌석 선점/해제/락 만료) - 트랜잭션 종료 후 반영
+     */
+    public void recordChange(Long concertId, Collection<Long> seatIds) {
+        List<String> members = seatIds.stream().map(String::valueOf).toList();
+        afterCompletion(() -> publishChange(concertId, members));
+    }
+
+    /**
+     * 좌석 구성 변경 기록 (좌석 생성/수정/삭제, 콘서트 수정/삭제) - 트랜잭션 종료 후 반영, 다음 조회 시 전체 재구성
+     */
+    public void invalidate(Long concertId) {
+        afterCompletion(() -> publishChange(concertId, List.of(FULL_REBUILD)));
+    }
+
+    /**
+     * 버전 증가 + 변경 좌석 기록
+     * @return 새 버전
+     */
+    public long publishChange(Long concertId, List<String> members) {
+        return redisTemplate.execute(CHANGE_SCRIPT, List.of(versionKey(concertId), changesKey(concertId)),
+                members.toArray());
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        // 커밋 전에 기록하면 다른 인스턴스가 커밋 전 상태로 새 버전을 만들 수 있음
+        // 롤백 시에도 기록 - 좌석 락 해제처럼 롤백되지 않는 Redis 상태 변경이 있고, 불필요한 기록은 해당 좌석을 다시 읽을 뿐이다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private SeatMap refresh(Long concertId, SeatMap current) {
+        long from = current != null ? current.version() : 0;
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().get(versionKey(concertId));
+                operations.opsForZSet().rangeByScore(changesKey(concertId), from + 1, Double.POSITIVE_INFINITY);
+                return null;
+            }
+        });
+        long version = results.get(0) != null ? Long.parseLong(results.get(0).toString()) : 0;
+
+        if (current != null && version == current.version()) {
+            return current;
+        }
+        Set<String> changes = (Set<String>) results.get(1);
+        // 최초 조회, Redis 초기화(버전 감소), 좌석 구성 변경 시 전체 재구성
+        if (current == null || version < current.version() || changes.contains(FULL_REBUILD)) {
+            return build(concertId, version);
+        }
+        return applyChanges(current, changes, version);
+    }
+
+    /**
+     * 전체 재구성 - 버전을 먼저 읽었으므로 재구성 중 바뀐 좌석은 다음 확인 때 다시 반영된다
+     */
+    private SeatMap build(Long concertId, long version) {
+        if (concertRepository.findByIdAndDeletedAtIsNull(concertId).isEmpty()) {
+            throw new CustomException(ErrorCode.CONCERT_NOT_FOUND);
+        }
+
+        List<Seat> seats = seatRepository.findByConcertIdNotDeleted(concertId);
+        List<Long> seatIds = seats.stream().map(Seat::getId).toList();
+        SeatAvailabilityIndex.SeatAvailability availability = seatAvailabilityIndex.read(concertId, seatIds);
+
+        byte[][] fragments = new byte[seats.size()][];
+        Map<Long, Integer> positions = new HashMap<>(seats.size() * 2);
+        Map<Long, Seat> entities = new HashMap<>(seats.size() * 2);
+        for (int i = 0; i < seats.size(); i++) {
+            Seat seat = seats.get(i);
+            fragments[i] = serialize(SeatResponse.from(seat, availability.isReserved(seat.getId()), availability.isHeld(seat.getId())));
+            positions.put(seat.getId(), i);
+            entities.put(seat.getId(), seat);
+        }
+        log.info("[좌석 배치도] 전체 재구성. Concert: {}, 좌석: {}, 버전: {}", concertId, seats.size(), version);
+        return SeatMap.of(concertId, version, fragments, positions, SeatTemplate.of(entities));
+    }
+
+    /**
+     * 바뀐 좌석만 다시 조회해 조각을 교체한 새 스냅샷 생성
+     */
+    private SeatMap applyChanges(SeatMap current, Set<String> changes, long version) {
+        List<Long> seatIds = changes.stream()
+                .map(Long::valueOf)
+                .filter(current.positions()::containsKey)
+                .toList();
+        if (seatIds.isEmpty()) {
+            return current.withVersion(version);
+        }
+
+        SeatAvailabilityIndex.SeatAvailability availability = seatAvailabilityIndex.read(current.concertId(), seatIds);
+        byte[][] fragments = current.fragments().clone();
+        for (Long seatId : seatIds) {
+            SeatResponse response = current.template().toResponse(seatId, availability.isReserved(seatId), availability.isHeld(seatId));
+            fragments[current.positions().get(seatId)] = serialize(response);
+        }
+        return SeatMap.of(current.concertId(), version, fragments, current.positions(), current.template());
+    }
+
+    private byte[] serialize(SeatResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 배치도 직렬화 실패", e);
+        }
+    }
+
+    // 클러스터 환경에서도 같은 슬롯에 배치되도록 콘서트 ID를 해시 태그로 사용
+    private String versionKey(Long concertId) {
+        return SEAT_MAP_KEY + "{" + concertId + "}:version";
+    }
+
+    private String changesKey(Long concertId) {
+        return SEAT_MAP_KEY + "{" + concertId + "}:changes";
+    }
+
+    /**
+     * 좌석 배치도 스냅샷 (생성 후 변경하지 않음)
+     * @param body      직렬화된 응답 (JSON 배열)
+     * @param fragments 좌석별 JSON 조각 (배치도 순서)
+     * @param positions 좌석 ID → 배치도 내 위치
+     */
+    public record SeatMap(Long concertId, long version, byte[] body, String etag, byte[][] fragments,
+                          Map<Long, Integer> positions, SeatTemplate template) {
+
+        static SeatMap of(Long concertId, long version, byte[][] fragments, Map<Long, Integer> positions,
+                          SeatTemplate template) {
+            int size = 2 + Math.max(fragments.length - 1, 0);
+            for (byte[] fragment : fragments) {
+                size += fragment.length;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+            out.write('[');
+            for (int i = 0; i < fragments.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.writeBytes(fragments[i]);
+            }
+            out.write(']');
+            byte[] body = out.toByteArray();
+            return new SeatMap(concertId, version, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                    fragments, positions, template);
+        }
+
+        SeatMap withVersion(long version) {
+            return new SeatMap(concertId, version, body, etag, fragments, positions, template);
+        }
+    }
+
+    /**
+     * 좌석 정보 중 예약 상태를 제외한 부분 (예약 상태만 바뀔 때 DB 에서 좌석을 다시 읽지 않도록 보관)
+     */
+    public record SeatTemplate(Map<Long, SeatResponse> seats) {
+
+        static SeatTemplate of(Map<Long, Seat> entities) {
+            Map<Long, SeatResponse> seats = new HashMap<>(entities.size() * 2);
+            entities.forEach((id, seat) -> seats.put(id, SeatResponse.from(seat, false)));
+            return new SeatTemplate(Map.copyOf(seats));
+        }
+
+        SeatResponse toResponse(Long seatId, boolean reserved, boolean held) {
+            SeatResponse seat = seats.get(seatId);
+            return new SeatResponse(seat.getId(), seat.getConcertId(), seat.getConcertTitle(), seat.getSection(),
+                    seat.getRow(), seat.getNumber(), seat.getGrade(), seat.getPrice(), reserved, held,
+                    seat.getCreatedAt(), seat.getUpdatedAt());
+        }
+    }
+
+    private static class Holder {
+        private volatile SeatMap seatMap;
+        private volatile long checkedAt;
+    }
+}
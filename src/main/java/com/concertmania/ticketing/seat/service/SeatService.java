@@ -2,7 +2,11 @@ package com.concertmania.ticketing.seat.service;
 
 import com.concertmania.ticketing.concert.entity.Concert;
 import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.seat.dto.SeatAvailabilityResponse;
 import com.concertmania.ticketing.seat.dto.SeatCreateRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldResponse;
+import com.concertmania.ticketing.seat.dto.SeatReleaseResponse;
 import com.concertmania.ticketing.seat.dto.SeatResponse;
 import com.concertmania.ticketing.seat.dto.SeatSelectResponse;
 import com.concertmania.ticketing.seat.dto.SeatUpdateRequest;
@@ -12,15 +16,19 @@ import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.utils.exception.CustomException;
 import com.concertmania.ticketing.utils.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +44,23 @@ public class SeatService {
     private final SeatRepository seatRepository;
     private final ConcertRepository concertRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatMapService seatMapService;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private static final String SEAT_LOCK_KEY = "seat_lock:";
+    private static final Duration SEAT_LOCK_TTL = Duration.ofMinutes(10);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-lock-acquire.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/seat-lock-release.lua"), List.class);
+
+    @Value("${seat.hold.max-seats:4}")
+    private int maxHoldSeats;
 
     @Transactional
     public List<SeatResponse> createSeats(List<SeatCreateRequest> requests) {
@@ -85,6 +110,11 @@ public class SeatService {
                 .collect(Collectors.toList());
         List<Seat> savedSeats = seatRepository.saveAll(seats);
 
+        // 좌석 구성이 바뀌었으므로 잔여 좌석 카운터 재구성
+        seatInventoryService.invalidate(concertId);
+        seatMapService.invalidate(concertId);
+        seatAvailabilityIndex.assign(concertId, savedSeats);
+
         // 벌크 쿼리로 예약 상태 조회
         List<Long> seatIds = savedSeats.stream()
                 .map(Seat::getId)
@@ -96,38 +126,32 @@ public class SeatService {
                 .collect(Collectors.toList());
     }
 
-    public Page<SeatResponse> getSeatsByConcert(Long concertId, Pageable pageable) {
+    public SeatAvailabilityResponse getSeatAvailability(Long concertId) {
         if (concertRepository.findByIdAndDeletedAtIsNull(concertId).isEmpty()) {
             throw new CustomException(ErrorCode.CONCERT_NOT_FOUND);
         }
 
-        Page<Seat> seats = seatRepository.findByConcertIdNotDeletedPage(concertId, pageable);
-        
-        // 벌크 쿼리로 예약 상태 조회
-        List<Long> seatIds = seats.getContent().stream()
-                .map(Seat::getId)
-                .collect(Collectors.toList());
-        Map<Long, Boolean> reservationStatusMap = seatRepository.getActiveReservationStatusBySeatIds(seatIds);
-        
-        return seats.map(seat -> SeatResponse.from(seat, reservationStatusMap.getOrDefault(seat.getId(), false)));
+        return SeatAvailabilityResponse.from(concertId, seatInventoryService.getFreeSeatCountByGrade(concertId));
     }
 
-    public List<SeatResponse> getSeatSeatMapByConcert(Long concertId) {
+    public Page<SeatResponse> getSeatsByConcert(Long concertId, Pageable pageable) {
         if (concertRepository.findByIdAndDeletedAtIsNull(concertId).isEmpty()) {
             throw new CustomException(ErrorCode.CONCERT_NOT_FOUND);
         }
 
-        List<Seat> seats = seatRepository.findByConcertIdNotDeleted(concertId);
+        Page<Seat> seats = seatRepository.findByConcertIdNotDeletedPage(concertId, pageable);
         
-        // 벌크 쿼리로 예약 상태 조회
-        List<Long> seatIds = seats.stream()
+        // 좌석 가용성 비트맵으로 예약/선점 상태 조회
+        List<Long> seatIds = seats.getContent().stream()
                 .map(Seat::getId)
                 .collect(Collectors.toList());
-        Map<Long, Boolean> reservationStatusMap = seatRepository.getActiveReservationStatusBySeatIds(seatIds);
-        
-        return seats.stream()
-                .map(seat -> SeatResponse.from(seat, reservationStatusMap.getOrDefault(seat.getId(), false)))
-                .collect(Collectors.toList());
+        SeatAvailabilityIndex.SeatAvailability availability = seatAvailabilityIndex.read(concertId, seatIds);
+
+        return seats.map(seat -> SeatResponse.from(seat, availability.isReserved(seat.getId()), availability.isHeld(seat.getId())));
+    }
+
+    public SeatMapService.SeatMap getSeatSeatMapByConcert(Long concertId) {
+        return seatMapService.getSeatMap(concertId);
     }
 
     public List<SeatResponse> getSeatsByGrade(Long concertId, String grade) {
@@ -137,14 +161,14 @@ public class SeatService {
 
         List<Seat> seats = seatRepository.findByConcertIdAndGradeNotDeleted(concertId, grade);
         
-        // 벌크 쿼리로 예약 상태 조회
+        // 좌석 가용성 비트맵으로 예약/선점 상태 조회
         List<Long> seatIds = seats.stream()
                 .map(Seat::getId)
                 .collect(Collectors.toList());
-        Map<Long, Boolean> reservationStatusMap = seatRepository.getActiveReservationStatusBySeatIds(seatIds);
+        SeatAvailabilityIndex.SeatAvailability availability = seatAvailabilityIndex.read(concertId, seatIds);
         
         return seats.stream()
-                .map(seat -> SeatResponse.from(seat, reservationStatusMap.getOrDefault(seat.getId(), false)))
+                .map(seat -> SeatResponse.from(seat, availability.isReserved(seat.getId()), availability.isHeld(seat.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -156,26 +180,34 @@ public class SeatService {
     }
 
     @Transactional
-    public SeatSelectResponse selectSeat(Long seatId, User user) {
+    public SeatSelectResponse selectSeat(Long seatId, User user, String admissionPass) {
         Seat seat = seatRepository.findByIdAndDeletedAtIsNull(seatId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
+        // 대기열 입장권 검증 (서명 검증만 수행 - Redis 조회 없음)
+        if (!jwtTokenProvider.validateAdmissionPass(admissionPass, user.getId(), seat.getConcert().getId())) {
+            throw new CustomException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
         if (seatRepository.hasActiveReservations(seatId)) {
             throw new CustomException(ErrorCode.IS_ALREADY_RESERVATION);
         }
 
-        String redisKey = "seat_lock:" + seatId;
+        String redisKey = SEAT_LOCK_KEY + seatId;
         String userId = String.valueOf(user.getId());
         LocalDateTime expiresAt;
 
         // 원자적 락
         Boolean locked = redisTemplate.opsForValue()
-                .setIfAbsent(redisKey, userId, Duration.ofMinutes(10));
+                .setIfAbsent(redisKey, userId, SEAT_LOCK_TTL);
 
         if (Boolean.TRUE.equals(locked)) {
-            // 락 획득 성공
+            // 락 획득 성공 - 잔여 좌석에서 제외
+            seatInventoryService.markTaken(seat);
+            seatAvailabilityIndex.markHeld(seat, true);
+            seatMapService.recordChange(seat.getConcert().getId(), List.of(seatId));
             expiresAt = LocalDateTime.now()
-                    .plusMinutes(10)
+                    .plus(SEAT_LOCK_TTL)
                     .truncatedTo(ChronoUnit.SECONDS);
         } else {
             // 락 획득 실패 - 기존 점유자 확인
@@ -203,6 +235,130 @@ public class SeatService {
         return SeatSelectResponse.from(seat, expiresAt, seatRepository.hasActiveReservations(seat.getId()));
     }
 
+    /**
+     * 여러 좌석 동시 선점 - 모든 좌석 락을 하나의 스크립트로 획득하거나 하나도 획득하지 않는다 (모든 좌석 공통 TTL)
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public SeatHoldResponse holdSeats(List<Long> seatIds, User user, String admissionPass) {
+        List<Seat> seats = findSeatsForHold(seatIds);
+        Long concertId = seats.get(0).getConcert().getId();
+
+        // 대기열 입장권 검증 (서명 검증만 수행 - Redis 조회 없음)
+        if (!jwtTokenProvider.validateAdmissionPass(admissionPass, user.getId(), concertId)) {
+            throw new CustomException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        if (seatRepository.getActiveReservationStatusBySeatIds(seatIds).containsValue(true)) {
+            throw new CustomException(ErrorCode.IS_ALREADY_RESERVATION);
+        }
+
+        List<Long> result = redisTemplate.execute(
+                HOLD_SCRIPT,
+                lockKeys(seatIds),
+                String.valueOf(user.getId()),
+                String.valueOf(SEAT_LOCK_TTL.toMillis())
+        );
+        if (result == null || result.get(0) != 1) {
+            // 스크립트가 반환한 KEYS 순번(1부터)으로 다른 사용자가 선점한 좌석을 알려준다
+            if (result != null && result.size() > 1) {
+                Long conflictSeatId = seatIds.get(result.get(1).intValue() - 1);
+                throw new CustomException(ErrorCode.SEAT_ALREADY_LOCKED, "좌석 ID: " + conflictSeatId);
+            }
+            throw new CustomException(ErrorCode.SEAT_ALREADY_LOCKED);
+        }
+
+        // 락 획득 성공 - 잔여 좌석에서 제외 (이미 본인이 선점한 좌석은 중복 반영되지 않음)
+        for (Seat seat : seats) {
+            seatInventoryService.markTaken(seat);
+            seatAvailabilityIndex.markHeld(seat, true);
+        }
+        seatMapService.recordChange(concertId, seatIds);
+
+        LocalDateTime expiresAt = LocalDateTime.now()
+                .plus(SEAT_LOCK_TTL)
+                .truncatedTo(ChronoUnit.SECONDS);
+        List<SeatSelectResponse> responses = seats.stream()
+                .map(seat -> SeatSelectResponse.from(seat, expiresAt, false))
+                .collect(Collectors.toList());
+        return new SeatHoldResponse(responses, expiresAt);
+    }
+
+    /**
+     * 여러 좌석 선점 동시 해제 - 본인이 선점한 좌석 락만 하나의 스크립트로 해제
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public SeatReleaseResponse releaseSeats(List<Long> seatIds, User user) {
+        List<Seat> seats = findSeatsForHold(seatIds);
+        Long concertId = seats.get(0).getConcert().getId();
+
+        List<Long> released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                lockKeys(seatIds),
+                String.valueOf(user.getId())
+        );
+
+        // 결제가 진행 중인 좌석은 락을 해제해도 계속 점유 상태로 둔다
+        Map<Long, Boolean> reservationStatusMap = seatRepository.getActiveReservationStatusBySeatIds(seatIds);
+        List<Long> releasedSeatIds = new ArrayList<>();
+        for (int i = 0; i < seats.size(); i++) {
+            if (released == null || released.get(i) != 1) {
+                continue;
+            }
+            Seat seat = seats.get(i);
+            seatAvailabilityIndex.markHeld(seat, false);
+            if (!reservationStatusMap.getOrDefault(seat.getId(), false)) {
+                seatInventoryService.markFree(seat);
+            }
+            releasedSeatIds.add(seat.getId());
+        }
+        if (!releasedSeatIds.isEmpty()) {
+            seatMapService.recordChange(concertId, releasedSeatIds);
+        }
+
+        return new SeatReleaseResponse(releasedSeatIds);
+    }
+
+    /**
+     * 선점/해제 대상 좌석 조회 (요청 순서 유지) - 좌석 수 제한, 중복, 존재 여부, 같은 콘서트 여부 검증
+     */
+    private List<Seat> findSeatsForHold(List<Long> seatIds) {
+        if (seatIds.size() > maxHoldSeats) {
+            throw new CustomException(ErrorCode.SEAT_HOLD_LIMIT_EXCEEDED);
+        }
+        if (new HashSet<>(seatIds).size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.DUPLICATE_SEAT_IN_REQUEST);
+        }
+
+        Map<Long, Seat> found = seatRepository.findAllById(seatIds).stream()
+                .filter(seat -> !seat.isDeleted())
+                .collect(Collectors.toMap(Seat::getId, seat -> seat));
+
+        List<Seat> seats = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            Seat seat = found.get(seatId);
+            if (seat == null) {
+                throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+            }
+            seats.add(seat);
+        }
+
+        Long concertId = seats.get(0).getConcert().getId();
+        boolean allSameConcert = seats.stream()
+                .allMatch(seat -> concertId.equals(seat.getConcert().getId()));
+        if (!allSameConcert) {
+            throw new CustomException(ErrorCode.INVALID_CONCERT_ID);
+        }
+        return seats;
+    }
+
+    private List<String> lockKeys(List<Long> seatIds) {
+        return seatIds.stream()
+                .map(seatId -> SEAT_LOCK_KEY + seatId)
+                .toList();
+    }
+
     @Transactional
     public SeatResponse updateSeat(Long id, SeatUpdateRequest request) {
         Seat seat = seatRepository.findByIdAndDeletedAtIsNull(id)
@@ -216,6 +372,10 @@ public class SeatService {
                 request.getPrice()
         );
 
+        // 등급이 바뀔 수 있으므로 잔여 좌석 카운터 재구성
+        seatInventoryService.invalidate(seat.getConcert().getId());
+        seatMapService.invalidate(seat.getConcert().getId());
+
         return SeatResponse.from(updatedSeat, seatRepository.hasActiveReservations(seat.getId()));
     }
 
@@ -229,5 +389,7 @@ public class SeatService {
         }
 
         seat.delete();
+        seatInventoryService.invalidate(seat.getConcert().getId());
+        seatMapService.invalidate(seat.getConcert().getId());
     }
 }
\ No newline at end of file
@@ -1,12 +1,22 @@
 package com.concertmania.ticketing.utils.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
-@AllArgsConstructor
 public class CustomException extends RuntimeException{
 
     private final ErrorCode errorCode;
 
+    // 에러 메시지에 덧붙일 상세 정보 (없으면 null)
+    private final String detail;
+
+    public CustomException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public CustomException(ErrorCode errorCode, String detail) {
+        this.errorCode = errorCode;
+        this.detail = detail;
+    }
+
 }
\ No newline at end of file
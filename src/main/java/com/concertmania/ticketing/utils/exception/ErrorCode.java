@@ -13,6 +13,14 @@ public enum ErrorCode {
     USER_REGISTER_ERROR(HttpStatus.BAD_REQUEST, "회원가입에 실패하였습니다."),
     FAIL_REGISTER_QUEUE(HttpStatus.BAD_REQUEST, "대기열에 실패하였습니다"),
 
+    //401 UNAUTHORIZED : 인증 실패
+    INVALID_STOMP_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 인증 토큰입니다. 다시 연결해주세요."),
+
+    //403 FORBIDDEN : 접근 권한 없음
+    INVALID_ADMISSION_PASS(HttpStatus.FORBIDDEN, "유효하지 않은 입장권입니다. 대기열을 통해 입장해주세요."),
+    QUEUE_LANE_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 대기열 레인에 등록할 권한이 없습니다."),
+    STOMP_DESTINATION_FORBIDDEN(HttpStatus.FORBIDDEN, "구독할 수 없는 경로입니다."),
+
     //404 NOT_FOUND : 리소스를 찾을 수 없음
     NOT_FOUND(HttpStatus.NOT_FOUND, "리소스를 찾을 수 없습니다."),
     NOT_FOUND_USER_ID(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
@@ -28,6 +36,8 @@ public enum ErrorCode {
     QUEUE_NOT_ACTIVE(HttpStatus.CONFLICT, "활성 상태가 아닌 대기열입니다."),
     ALREADY_IN_QUEUE(HttpStatus.CONFLICT, "이미 대기열에 등록되어 있습니다."),
     QUEUE_NOT_FOUND(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."),
+    QUEUE_LANE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 대기열 레인입니다."),
+    QUEUE_STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "대기열 실시간 연결 수가 초과되었습니다. 잠시 후 다시 시도해주세요."),
     SEAT_NOT_SELECTED(HttpStatus.NOT_FOUND, "선택된 좌석을 찾을 수 없습니다."),
     CONCERT_NOT_FOUND(HttpStatus.NOT_FOUND, "콘서트를 찾을 수 없습니다."),
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석을 찾을 수 없습니다."),
@@ -42,9 +52,11 @@ public enum ErrorCode {
     CANNOT_DELETE_RESERVED_SEAT(HttpStatus.UNPROCESSABLE_ENTITY, "예약된 좌석은 삭제할 수 없습니다."),
     CONCERT_DATE_AFTER_CLOSE_TIME(HttpStatus.UNPROCESSABLE_ENTITY, "공연일은 예약 마감일보다 이후여야 합니다."),
     CLOSE_TIME_AFTER_OPEN_TIME(HttpStatus.UNPROCESSABLE_ENTITY, "예약 마감일은 예약 시작일보다 이후여야 합니다."),
+    LOBBY_OPEN_TIME_AFTER_OPEN_TIME(HttpStatus.UNPROCESSABLE_ENTITY, "추첨 대기실 오픈 시간은 예약 시작일보다 이전이어야 합니다."),
     INVALID_REQUEST(HttpStatus.UNPROCESSABLE_ENTITY, "유효하지 않은 요청입니다."),
     INVALID_CONCERT_ID(HttpStatus.UNPROCESSABLE_ENTITY, "모든 좌석은 동일한 콘서트에 속해야 합니다."),
     DUPLICATE_SEAT_IN_REQUEST(HttpStatus.UNPROCESSABLE_ENTITY, "요청 내에 중복된 좌석이 있습니다."),
+    SEAT_HOLD_LIMIT_EXCEEDED(HttpStatus.UNPROCESSABLE_ENTITY, "한 번에 선택할 수 있는 좌석 수를 초과했습니다."),
     RESERVATION_SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "예약 좌석을 찾을 수 없습니다."),
     RESERVATION_EXPIRED(HttpStatus.UNPROCESSABLE_ENTITY, "예약이 만료되었습니다."),
     RESERVATION_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 예약입니다."),
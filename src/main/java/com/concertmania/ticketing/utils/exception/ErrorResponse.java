@@ -17,9 +17,13 @@ public class ErrorResponse {
     }
 
     public ErrorResponse(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public ErrorResponse(ErrorCode errorCode, String detail) {
         this.status = errorCode.getStatus().value();
         this.error = errorCode.getStatus().name();
         this.code = errorCode.name();
-        this.message = errorCode.getMESSAGE();
+        this.message = detail != null ? errorCode.getMESSAGE() + " (" + detail + ")" : errorCode.getMESSAGE();
     }
 }
\ No newline at end of file
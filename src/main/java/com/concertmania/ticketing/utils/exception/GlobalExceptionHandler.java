@@ -21,7 +21,7 @@ public class GlobalExceptionHandler {
         log.error("handleCustomException : {}",e.getErrorCode());
         return ResponseEntity
                 .status(e.getErrorCode().getStatus().value())
-                .body(new ErrorResponse(e.getErrorCode()));
+                .body(new ErrorResponse(e.getErrorCode(), e.getDetail()));
     }
 
     //405 Exception
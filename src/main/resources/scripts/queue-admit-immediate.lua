@@ -0,0 +1,32 @@
+-- 대기 없이 바로 입장 처리
+-- KEYS[1]    : 입장 허용 ZSET (score: 입장 만료 시각)
+-- KEYS[2..n] : 대기열 ZSET 목록 (비샤드 모드의 레인별 대기열 - 샤드 모드는 해시 슬롯이 달라 호출 전에 확인)
+-- ARGV[1]    : 현재 시각 (ms)
+-- ARGV[2]    : 입장 만료 시각 (ms)
+-- ARGV[3]    : 최대 동시 입장 인원 (후속 처리 용량)
+-- ARGV[4]    : 잔여 좌석 수
+-- ARGV[5]    : 사용자 ID
+-- 반환값     : 1 (입장 처리) / 0 (대기자가 있거나 입장 가능 인원 없음 → 대기열 등록)
+
+-- 대기자가 있으면 순서를 지키기 위해 대기열로
+for i = 2, #KEYS do
+    if redis.call('ZCARD', KEYS[i]) > 0 then
+        return 0
+    end
+end
+
+-- 만료된 입장 정리
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+
+-- 배치 입장과 같은 기준: min(배치 크기(1명), 남은 처리 용량, 잔여 좌석 수)
+local active = redis.call('ZCARD', KEYS[1])
+local count = math.min(
+        1,
+        tonumber(ARGV[3]) - active,
+        tonumber(ARGV[4]))
+if count <= 0 then
+    return 0
+end
+
+redis.call('ZADD', KEYS[1], tonumber(ARGV[2]), ARGV[5])
+return 1
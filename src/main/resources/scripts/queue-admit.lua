@@ -0,0 +1,37 @@
+-- 대기열 배치 입장 처리
+-- KEYS[1] : 대기열 ZSET
+-- KEYS[2] : 입장 허용 ZSET (score: 입장 만료 시각)
+-- KEYS[3] : 하트비트 ZSET
+-- (사용자 위치 키 삭제와 대기 중인 콘서트 SET 갱신은 슬롯이 다른 키라 스크립트 밖에서 처리)
+-- ARGV[1] : 현재 시각 (ms)
+-- ARGV[2] : 입장 만료 시각 (ms)
+-- ARGV[3] : 틱당 최대 입장 인원
+-- ARGV[4] : 최대 동시 입장 인원 (후속 처리 용량)
+-- ARGV[5] : 잔여 좌석 수
+-- 반환값  : { 입장 처리된 사용자 ID 목록, 입장 처리된 사용자의 대기 번호 목록, 남은 대기 인원 }
+
+-- 만료된 입장 정리
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+
+-- 입장 인원 = min(배치 크기, 남은 처리 용량, 잔여 좌석 수)
+local active = redis.call('ZCARD', KEYS[2])
+local count = math.min(
+        tonumber(ARGV[3]),
+        tonumber(ARGV[4]) - active,
+        tonumber(ARGV[5]))
+
+local admitted = {}
+local tickets = {}
+if count > 0 then
+    local entries = redis.call('ZRANGE', KEYS[1], 0, count - 1, 'WITHSCORES')
+    for i = 1, #entries, 2 do
+        local member = entries[i]
+        admitted[#admitted + 1] = member
+        tickets[#tickets + 1] = entries[i + 1]
+        redis.call('ZREM', KEYS[1], member)
+        redis.call('ZREM', KEYS[3], member)
+        redis.call('ZADD', KEYS[2], tonumber(ARGV[2]), member)
+    end
+end
+
+return { admitted, tickets, redis.call('ZCARD', KEYS[1]) }
@@ -0,0 +1,17 @@
+-- 하트비트가 끊긴 대기자 정리 (배치 단위)
+-- KEYS[1] : 하트비트 ZSET
+-- KEYS[2..n] : 대기열 ZSET (레인별, 같은 샤드)
+-- ARGV[1] : 기준 시각 (ms, 이 시각 이전 하트비트는 이탈로 간주)
+-- ARGV[2] : 배치 크기
+-- (사용자 위치 키는 스크립트 밖에서 삭제 - 반환한 사용자 ID로 키를 만들어 삭제)
+-- 반환값  : { 정리한 사용자 ID 목록, 대기열에서 제거된 사용자 수 }
+
+local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local removed = 0
+for _, member in ipairs(stale) do
+    for i = 2, #KEYS do
+        removed = removed + redis.call('ZREM', KEYS[i], member)
+    end
+    redis.call('ZREM', KEYS[1], member)
+end
+return { stale, removed }
@@ -0,0 +1,39 @@
+-- 대기열 등록 (중복 확인 + 대기 번호 발급 + ZADD + 위치 키 저장 + 순번 조회를 한 번의 왕복으로 처리)
+-- KEYS[1] : 대기열 ZSET 키 (샤드 모드에서는 사용자가 속한 샤드 키)
+-- KEYS[2] : 사용자 위치 키
+-- KEYS[3] : 하트비트 ZSET 키
+-- (대기 번호 시퀀스와 대기 중인 콘서트 SET 은 슬롯이 다른 전역 키라 스크립트 밖에서 처리)
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 대기 번호 (0 이면 아직 발급받지 않음 - 신규 등록이 필요하면 -1 반환)
+-- ARGV[3] : 위치 키 TTL (초)
+-- ARGV[4] : 현재 시각 (ms, 하트비트)
+-- ARGV[5] : 등록 기기 ID (선택 - 위치 키 값으로 저장해 대기열 항목을 기기에 바인딩)
+-- 반환값  : { 신규 등록 여부(1/0, 대기 번호가 필요하면 -1), 현재 순번(1부터 시작, 샤드 모드에서는 샤드 내 순번), 대기 번호 }
+
+local queueKey = KEYS[1]
+local positionKey = KEYS[2]
+local member = ARGV[1]
+
+-- 이미 대기열에 있는 사용자라면 대기 번호를 새로 발급하지 않고 위치 키와 하트비트만 갱신한 뒤 현재 순번 반환
+-- (위치 키만 만료된 경우 다시 저장 - 바인딩된 기기 ID는 남아 있으면 유지)
+local score = redis.call('ZSCORE', queueKey, member)
+if score then
+    if redis.call('EXPIRE', positionKey, tonumber(ARGV[3])) == 0 then
+        redis.call('SET', positionKey, ARGV[5] or 'registered', 'EX', tonumber(ARGV[3]))
+    end
+    redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), member)
+    return { 0, redis.call('ZRANK', queueKey, member) + 1, score }
+end
+
+-- 확인 후 대기열에서 빠진 사용자 - 대기 번호를 발급받아 다시 호출해야 함
+local ticket = tonumber(ARGV[2])
+if ticket == 0 then
+    return { -1, 0, 0 }
+end
+
+redis.call('ZADD', queueKey, 'NX', ticket, member)
+redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), member)
+redis.call('SET', positionKey, ARGV[5] or 'registered', 'EX', tonumber(ARGV[3]))
+
+local rank = redis.call('ZRANK', queueKey, member)
+return { 1, rank + 1, redis.call('ZSCORE', queueKey, member) }
@@ -0,0 +1,16 @@
+-- 주기 작업 락 반납 (소유자 확인)
+-- KEYS[1] : 락 키
+-- ARGV[1] : 락 소유자 (인스턴스 ID)
+-- ARGV[2] : 주기가 끝날 때까지 남은 시간 (ms) - 0 이하면 바로 삭제
+-- 반환값  : 1 (반납), 0 (다른 인스턴스의 락이거나 이미 만료)
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+local remaining = tonumber(ARGV[2])
+if remaining > 0 then
+    redis.call('PEXPIRE', KEYS[1], remaining)
+else
+    redis.call('DEL', KEYS[1])
+end
+return 1
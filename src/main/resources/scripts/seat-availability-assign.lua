@@ -0,0 +1,20 @@
+-- 신규 좌석 순번 배정 (좌석 가용성 비트맵)
+-- 순번은 다시 사용하지 않으므로 새 순번의 비트는 모두 0 (예약/선점되지 않음) 이다.
+-- KEYS[1] : 좌석 ID → 순번 HASH
+-- KEYS[2] : 다음 순번 카운터
+-- ARGV    : 좌석 ID 목록
+-- 반환값  : 배정한 좌석 수, 0 (인덱스 미구성 - 다음 조회 시 재구성)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+local assigned = 0
+for i = 1, #ARGV do
+    if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 0 then
+        local ordinal = redis.call('INCR', KEYS[2]) - 1
+        redis.call('HSET', KEYS[1], ARGV[i], ordinal)
+        assigned = assigned + 1
+    end
+end
+return assigned
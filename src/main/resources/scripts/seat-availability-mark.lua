@@ -0,0 +1,12 @@
+-- 좌석 상태 비트 반영 (좌석 가용성 비트맵)
+-- KEYS[1] : 좌석 ID → 순번 HASH
+-- KEYS[2] : 상태 비트맵 (reserved | held)
+-- ARGV[1] : 좌석 ID
+-- ARGV[2] : 0 | 1
+-- 반환값  : 이전 비트 값, -1 (인덱스 미구성 또는 순번 없음 - 다음 조회 시 재구성)
+
+local ordinal = redis.call('HGET', KEYS[1], ARGV[1])
+if not ordinal then
+    return -1
+end
+return redis.call('SETBIT', KEYS[2], ordinal, ARGV[2])
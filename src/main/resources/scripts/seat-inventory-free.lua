@@ -0,0 +1,19 @@
+-- 잔여 좌석 수 조회 (전체 + 등급별)
+-- KEYS[1] : 등급별 전체 좌석 수 HASH ('__all' 필드에 전체 좌석 수)
+-- KEYS[2] : 점유 좌석 SET (등급별 SET 은 KEYS[2] .. ':' .. 등급)
+-- 반환값  : { '__all', 잔여수, 등급, 잔여수, ... } / 미초기화 시 빈 목록
+
+local totals = redis.call('HGETALL', KEYS[1])
+local result = {}
+
+for i = 1, #totals, 2 do
+    local field = totals[i]
+    local takenKey = KEYS[2]
+    if field ~= '__all' then
+        takenKey = KEYS[2] .. ':' .. field
+    end
+    local free = tonumber(totals[i + 1]) - redis.call('SCARD', takenKey)
+    table.insert(result, field)
+    table.insert(result, tostring(free))
+end
+return result
@@ -0,0 +1,20 @@
+-- 좌석 점유 상태 반영 (잔여 좌석 카운터)
+-- KEYS[1] : 등급별 전체 좌석 수 HASH
+-- KEYS[2] : 점유(선점 + 예약) 좌석 SET
+-- KEYS[3] : 등급별 점유 좌석 SET
+-- ARGV[1] : 좌석 ID
+-- ARGV[2] : 'taken' | 'free'
+-- 반환값  : 1 (반영), -1 (카운터 미초기화 - 다음 조회 시 재구성)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+if ARGV[2] == 'taken' then
+    redis.call('SADD', KEYS[2], ARGV[1])
+    redis.call('SADD', KEYS[3], ARGV[1])
+else
+    redis.call('SREM', KEYS[2], ARGV[1])
+    redis.call('SREM', KEYS[3], ARGV[1])
+end
+return 1
@@ -0,0 +1,18 @@
+-- 여러 좌석 동시 선점 (전부 성공 또는 전부 실패)
+-- 이미 본인이 선점한 좌석은 함께 TTL 을 갱신해 모든 좌석이 같은 시각에 만료된다.
+-- KEYS    : 좌석 락 키 목록 (seat_lock:{좌석 ID})
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 선점 시간 (ms)
+-- 반환값  : { 1 } (선점 성공) / { 0, 다른 사용자가 선점한 좌석의 KEYS 순번 } (선점 실패 - 아무 좌석도 선점하지 않음)
+
+for i = 1, #KEYS do
+    local owner = redis.call('GET', KEYS[i])
+    if owner and owner ~= ARGV[1] then
+        return { 0, i }
+    end
+end
+
+for i = 1, #KEYS do
+    redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+end
+return { 1 }
@@ -0,0 +1,15 @@
+-- 여러 좌석 선점 동시 해제 - 본인이 선점한 좌석만 해제
+-- KEYS    : 좌석 락 키 목록 (seat_lock:{좌석 ID})
+-- ARGV[1] : 사용자 ID
+-- 반환값  : 좌석별 해제 여부 목록 (1: 해제, 0: 선점하지 않았거나 다른 사용자의 좌석)
+
+local released = {}
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        redis.call('DEL', KEYS[i])
+        released[i] = 1
+    else
+        released[i] = 0
+    end
+end
+return released
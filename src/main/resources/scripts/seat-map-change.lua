@@ -0,0 +1,11 @@
+-- 좌석 배치도 변경 기록 (버전 증가 + 변경 좌석 기록을 원자적으로 처리)
+-- KEYS[1] : 좌석 배치도 버전 키
+-- KEYS[2] : 변경 좌석 ZSET (member: 좌석 ID 또는 '*'(전체 재구성), score: 마지막으로 바뀐 버전)
+-- ARGV    : 변경된 좌석 ID 목록
+-- 반환값  : 새 버전
+
+local version = redis.call('INCR', KEYS[1])
+for i = 1, #ARGV do
+    redis.call('ZADD', KEYS[2], version, ARGV[i])
+end
+return version
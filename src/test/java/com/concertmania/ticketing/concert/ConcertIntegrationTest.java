@@ -113,7 +113,8 @@ public class ConcertIntegrationTest {
                 "올림픽공원 체조경기장",
                 LocalDateTime.of(2024, 12, 25, 19, 0),
                 LocalDateTime.of(2024, 12, 1, 10, 0),
-                LocalDateTime.of(2024, 12, 24, 23, 59)
+                LocalDateTime.of(2024, 12, 24, 23, 59),
+                null // 추첨 대기실 없음
         );
 
         // when & then
@@ -38,6 +38,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Date;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -91,6 +92,7 @@ public class PaymentIntegrationTest {
 
     private User normalUser;
     private String userToken;
+    private String admissionPass;
     private Concert testConcert;
     private Seat testSeat;
 
@@ -133,6 +135,10 @@ public class PaymentIntegrationTest {
                 .price(new BigDecimal("150000"))
                 .build();
         testSeat = seatRepository.save(testSeat);
+
+        // 대기열 입장권 발급 (입장 허용 상태)
+        admissionPass = jwtTokenProvider.createAdmissionPass(
+                normalUser.getId(), testConcert.getId(), new Date(System.currentTimeMillis() + 600_000));
     }
 
     @Test
@@ -140,7 +146,8 @@ public class PaymentIntegrationTest {
     void startPayment_Success() throws Exception {
         // given - 먼저 좌석 선택 API를 호출하여 Redis 락 생성
         mockMvc.perform(post("/api/seat/" + testSeat.getId() + "/select")
-                        .header("Authorization", "Bearer " + userToken))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
                 .andExpect(status().isOk());
 
         PaymentRequest request = new PaymentRequest(
@@ -152,6 +159,7 @@ public class PaymentIntegrationTest {
         // when & then
         mockMvc.perform(post("/api/payment")
                         .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -167,7 +175,8 @@ public class PaymentIntegrationTest {
     void confirmPayment_Success() throws Exception {
         // given - 먼저 좌석 선택 API를 호출하여 Redis 락 생성
         mockMvc.perform(post("/api/seat/" + testSeat.getId() + "/select")
-                        .header("Authorization", "Bearer " + userToken))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
                 .andExpect(status().isOk());
 
         // 결제 시작 API를 통해 실제 결제 데이터 생성
@@ -180,6 +189,7 @@ public class PaymentIntegrationTest {
         // 결제 시작하여 거래 ID 획득
         String response = mockMvc.perform(post("/api/payment")
                         .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(paymentRequest)))
                 .andExpect(status().isOk())
@@ -208,7 +218,8 @@ public class PaymentIntegrationTest {
     void startPayment_AlreadyReservedSeat() throws Exception {
         // given - 먼저 좌석 선택 API를 호출하여 Redis 락 생성
         mockMvc.perform(post("/api/seat/" + testSeat.getId() + "/select")
-                        .header("Authorization", "Bearer " + userToken))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
                 .andExpect(status().isOk());
 
         // 첫 번째 결제 시작
@@ -220,6 +231,7 @@ public class PaymentIntegrationTest {
 
         String firstResponse = mockMvc.perform(post("/api/payment")
                         .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(firstRequest)))
                 .andExpect(status().isOk())
@@ -238,7 +250,8 @@ public class PaymentIntegrationTest {
 
         // 두 번째 좌석 선택 시도 (같은 좌석에 대해)
         mockMvc.perform(post("/api/seat/" + testSeat.getId() + "/select")
-                        .header("Authorization", "Bearer " + userToken))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
                 .andExpect(status().isConflict()); // 이미 예약된 좌석이므로 선택 자체가 실패해야 함
     }
 }
\ No newline at end of file
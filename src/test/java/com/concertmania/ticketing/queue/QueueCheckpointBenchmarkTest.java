@@ -0,0 +1,108 @@
+package com.concertmania.ticketing.queue;
+
+import com.concertmania.ticketing.queue.service.QueueCheckpointService;
+import com.concertmania.ticketing.queue.service.QueueKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 체크포인트 저장 / Redis 유실 후 복구 시간 벤치마크 (대기자 100만 명)
+ * 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest
+@ActiveProfiles("test")
+public class QueueCheckpointBenchmarkTest {
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int SEED_CHUNK = 10_000;
+    private static final Long CONCERT_ID = 900_001L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+    }
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private QueueCheckpointService queueCheckpointService;
+
+    @Test
+    @DisplayName("대기자 100만 명 체크포인트 저장 / 복구 시간")
+    void checkpointAndRestoreOneMillionEntries() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        seedQueue();
+
+        // 체크포인트 저장 (최초 1회 - 전체가 증분 대상)
+        long start = System.nanoTime();
+        int saved = queueCheckpointService.checkpoint(CONCERT_ID);
+        double checkpointSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Redis 유실 후 복구
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        start = System.nanoTime();
+        assertThat(queueCheckpointService.restoreIfLost()).isTrue();
+        double restoreSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        log.info(String.format("[benchmark] 체크포인트 저장 (%,d명) : %.2fs (%,.0f rows/s)",
+                saved, checkpointSeconds, saved / checkpointSeconds));
+        log.info(String.format("[benchmark] 대기열 복구 (%,d명)     : %.2fs (%,.0f entries/s)",
+                ENTRIES, restoreSeconds, ENTRIES / restoreSeconds));
+
+        assertThat(saved).isEqualTo(ENTRIES);
+        assertThat(redisTemplate.opsForZSet().zCard(QueueKeys.queue(CONCERT_ID))).isEqualTo(ENTRIES);
+        assertThat(redisTemplate.opsForValue().get(QueueKeys.sequence(CONCERT_ID))).isEqualTo(String.valueOf(ENTRIES));
+    }
+
+    /**
+     * 대기 번호 1 ~ N 으로 대기열 채우기 (청크 단위 다건 ZADD 파이프라인)
+     */
+    private void seedQueue() {
+        for (int from = 1; from <= ENTRIES; from += SEED_CHUNK) {
+            Set<TypedTuple<String>> tuples = new HashSet<>();
+            for (int ticket = from; ticket < from + SEED_CHUNK && ticket <= ENTRIES; ticket++) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(ticket), (double) ticket));
+            }
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForZSet().add(QueueKeys.queue(CONCERT_ID), tuples);
+                    return null;
+                }
+            });
+        }
+        redisTemplate.opsForValue().set(QueueKeys.sequence(CONCERT_ID), String.valueOf(ENTRIES));
+        redisTemplate.opsForSet().add(QueueKeys.ACTIVE_CONCERTS, CONCERT_ID.toString());
+    }
+}
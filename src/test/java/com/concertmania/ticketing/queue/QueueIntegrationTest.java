@@ -4,11 +4,34 @@ import com.concertmania.ticketing.concert.entity.Concert;
 import com.concertmania.ticketing.concert.enums.ConcertStatus;
 import com.concertmania.ticketing.concert.repository.ConcertRepository;
 import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.queue.dto.QueueRegisterResponse;
 import com.concertmania.ticketing.queue.dto.QueueRequest;
+import com.concertmania.ticketing.queue.dto.QueueStatusResponse;
+import com.concertmania.ticketing.queue.dto.QueueSummaryResponse;
+import com.concertmania.ticketing.queue.service.QueueAdmissionService;
+import com.concertmania.ticketing.queue.service.QueueCheckpointService;
+import com.concertmania.ticketing.queue.service.QueueKeys;
+import com.concertmania.ticketing.queue.service.QueueLanes;
+import com.concertmania.ticketing.queue.service.QueueLobbyService;
+import com.concertmania.ticketing.queue.service.QueueMetrics;
+import com.concertmania.ticketing.queue.service.QueueReaperService;
+import com.concertmania.ticketing.queue.service.QueueSchedulerLock;
+import com.concertmania.ticketing.queue.service.QueueService;
+import com.concertmania.ticketing.queue.service.QueueStompService;
+import com.concertmania.ticketing.queue.service.QueueStreamService;
+import com.concertmania.ticketing.queue.service.QueueWaitTimeEstimator;
+import com.concertmania.ticketing.seat.entity.Seat;
+import com.concertmania.ticketing.seat.repository.SeatRepository;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.user.enums.UserRole;
 import com.concertmania.ticketing.user.repository.UserRepository;
+import com.concertmania.ticketing.utils.exception.CustomException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +39,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.GenericContainer;
@@ -28,7 +54,26 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -78,6 +123,42 @@ public class QueueIntegrationTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private QueueAdmissionService queueAdmissionService;
+
+    @Autowired
+    private QueueStreamService queueStreamService;
+
+    @Autowired
+    private QueueWaitTimeEstimator queueWaitTimeEstimator;
+
+    @Autowired
+    private QueueReaperService queueReaperService;
+
+    @Autowired
+    private QueueLobbyService queueLobbyService;
+
+    @Autowired
+    private QueueCheckpointService queueCheckpointService;
+
+    @Autowired
+    private QueueMetrics queueMetrics;
+
+    @Autowired
+    private QueueSchedulerLock queueSchedulerLock;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private User normalUser;
     private String userToken;
     private Concert testConcert;
@@ -157,6 +238,24 @@ public class QueueIntegrationTest {
                 .andExpect(jsonPath("$.message").value("이미 대기열에 등록되어 있습니다. 현재 순번: 1"));
     }
 
+    @Test
+    @DisplayName("대기열 등록 - 위치 키만 만료된 사용자는 대기 번호를 새로 발급하지 않음")
+    void registerToQueue_PositionKeyExpired_KeepsTicket() {
+        // given
+        queueService.registerToQueue(testConcert.getId(), normalUser);
+        String sequence = redisTemplate.opsForValue().get(QueueKeys.sequence(testConcert.getId()));
+        redisTemplate.delete(QueueKeys.userPosition(testConcert.getId(), normalUser.getId()));
+
+        // when
+        QueueRegisterResponse response = queueService.registerToQueue(testConcert.getId(), normalUser);
+
+        // then
+        assertThat(response.isRegister()).isFalse();
+        assertThat(response.getPosition()).isEqualTo(1L);
+        assertThat(redisTemplate.opsForValue().get(QueueKeys.sequence(testConcert.getId()))).isEqualTo(sequence);
+        assertThat(redisTemplate.hasKey(QueueKeys.userPosition(testConcert.getId(), normalUser.getId()))).isTrue();
+    }
+
     @Test
     @DisplayName("대기열 등록 - 존재하지 않는 콘서트")
     void registerToQueue_ConcertNotFound() throws Exception {
@@ -171,6 +270,32 @@ public class QueueIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("대기열 공개 스냅샷 - 인증 없이 조회, ETag 가 같으면 304")
+    void snapshot_PublicWithEtag() throws Exception {
+        // given
+        queueService.registerToQueue(testConcert.getId(), normalUser);
+
+        // when & then - 인증 없이 조회
+        String etag = mockMvc.perform(get("/api/queue/" + testConcert.getId() + "/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=1, public"))
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.lastSequence").value(1))
+                .andExpect(jsonPath("$.heads.general").value(0))
+                .andExpect(jsonPath("$.depth").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 같은 스냅샷이면 본문 없이 304
+        mockMvc.perform(get("/api/queue/" + testConcert.getId() + "/snapshot")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 없는 콘서트는 캐시하지 않고 404
+        mockMvc.perform(get("/api/queue/99999/snapshot"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("대기열 SSE 스트리밍 - 연결 테스트")
     void streamQueueStatus_Success() throws Exception {
@@ -202,4 +327,582 @@ public class QueueIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대기열 입장 - 잔여 좌석이 생기면 스케줄러가 입장 처리")
+    void admitWaitingUsers_WhenSeatBecomesFree() throws Exception {
+        // given - 좌석이 없는 상태에서 대기열 등록
+        QueueRequest request = new QueueRequest(testConcert.getId());
+        mockMvc.perform(post("/api/queue")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.register").value(true));
+
+        // 상태 조회만으로는 대기열이 바뀌지 않음
+        assertThat(queueService.getQueueStatus(testConcert.getId(), normalUser.getId()).getPosition()).isEqualTo(1);
+
+        // 좌석 추가
+        seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        seatInventoryService.evict(testConcert.getId());
+
+        // when
+        List<String> admitted = queueAdmissionService.admit(testConcert.getId());
+
+        // then
+        assertThat(admitted).containsExactly(normalUser.getId().toString());
+        assertThat(queueService.getQueueStatus(testConcert.getId(), normalUser.getId()).getPosition()).isZero();
+        assertThat(queueService.getQueueStatus(testConcert.getId(), normalUser.getId()).getCanEnter()).isTrue();
+
+        // 입장 허용 시 해당 콘서트용 입장권 발급
+        String admissionPass = queueService.getQueueStatus(testConcert.getId(), normalUser.getId()).getAdmissionPass();
+        assertThat(jwtTokenProvider.validateAdmissionPass(admissionPass, normalUser.getId(), testConcert.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("바로 입장 - 동시에 요청해도 남은 처리 용량만큼만 입장")
+    void admitImmediately_AtomicCapacityCheck() throws Exception {
+        // given - 잔여 좌석 1석, 처리 용량(1000명) 중 999명이 이미 입장한 상태
+        Long concertId = testConcert.getId();
+        seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        seatInventoryService.evict(concertId);
+        assertThat(seatInventoryService.getFreeSeatCount(concertId)).isEqualTo(1);
+
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        Set<TypedTuple<String>> active = new HashSet<>();
+        for (int i = 0; i < 999; i++) {
+            active.add(TypedTuple.of("active-" + i, (double) expiresAt));
+        }
+        redisTemplate.opsForZSet().add(QueueKeys.admitted(concertId), active);
+
+        // when - 10명이 동시에 바로 입장 시도
+        int requests = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (long userId = 1; userId <= requests; userId++) {
+            Long id = userId;
+            results.add(executor.submit(() -> {
+                start.await();
+                return queueAdmissionService.admitImmediately(concertId, id);
+            }));
+        }
+        start.countDown();
+        int admittedCount = 0;
+        for (Future<Long> result : results) {
+            if (result.get(10, TimeUnit.SECONDS) != null) {
+                admittedCount++;
+            }
+        }
+        executor.shutdown();
+
+        // then - 한 명만 입장, 나머지는 대기열 등록 대상
+        assertThat(admittedCount).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().zCard(QueueKeys.admitted(concertId))).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("스케줄러 락 - 주기 동안 유지, 실행이 끝나면 자신의 락만 반납")
+    void schedulerLock_ReleasesOnlyOwnLock() {
+        String lockKey = QueueKeys.ADMISSION_LOCK;
+        AtomicInteger runs = new AtomicInteger();
+
+        // 주기 안에는 다시 실행되지 않음
+        assertThat(queueSchedulerLock.runExclusively(lockKey, 60_000, runs::incrementAndGet)).isTrue();
+        assertThat(queueSchedulerLock.runExclusively(lockKey, 60_000, runs::incrementAndGet)).isFalse();
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(redisTemplate.getExpire(lockKey)).isBetween(1L, 60L);
+
+        // 주기가 지난 뒤 끝난 실행은 락을 바로 반납
+        redisTemplate.delete(lockKey);
+        assertThat(queueSchedulerLock.runExclusively(lockKey, 0, runs::incrementAndGet)).isTrue();
+        assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+
+        // 실행 중 락이 만료되어 다른 인스턴스가 가져갔으면 그 락은 건드리지 않음
+        assertThat(queueSchedulerLock.runExclusively(lockKey, 0,
+                () -> redisTemplate.opsForValue().set(lockKey, "other-instance"))).isTrue();
+        assertThat(redisTemplate.opsForValue().get(lockKey)).isEqualTo("other-instance");
+    }
+
+    @Test
+    @DisplayName("대기열 지표 - 등록/입장 수, 대기열 길이, 대기 번호 시계로 계산한 대기 시간 기록")
+    void metrics_RecordArrivalsAdmissionsAndTimeInQueue() {
+        // given - 좌석이 없는 상태에서 2명 등록
+        Long concertId = testConcert.getId();
+        String tag = concertId.toString();
+        User otherUser = userRepository.save(User.builder()
+                .username("metrics-user")
+                .email("metrics@test.com")
+                .password("password")
+                .role(UserRole.USER)
+                .build());
+        queueService.registerToQueue(concertId, normalUser);
+        queueService.registerToQueue(concertId, otherUser);
+        queueMetrics.sampleDepth();
+
+        assertThat(meterRegistry.get("queue.arrivals").tag("concertId", tag).counter().count()).isEqualTo(2);
+        assertThat(queueMetrics.getDepth(concertId)).isEqualTo(2);
+
+        // when - 좌석 1개가 생겨 맨 앞 대기자 입장, 두 번째 대기자는 대기 중 제거
+        seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        seatInventoryService.evict(concertId);
+        assertThat(queueAdmissionService.admit(concertId)).containsExactly(normalUser.getId().toString());
+        queueService.removeFromQueue(concertId, otherUser.getId());
+        queueMetrics.sampleDepth();
+
+        // then - 입장/제거 모두 대기 시간 히스토그램에 기록
+        assertThat(meterRegistry.get("queue.admissions").tag("concertId", tag).counter().count()).isEqualTo(1);
+        Timer admittedWait = meterRegistry.get("queue.time.in.queue")
+                .tag("concertId", tag).tag("outcome", QueueMetrics.OUTCOME_ADMITTED).timer();
+        Timer removedWait = meterRegistry.get("queue.time.in.queue")
+                .tag("concertId", tag).tag("outcome", QueueMetrics.OUTCOME_REMOVED).timer();
+        assertThat(admittedWait.count()).isEqualTo(1);
+        assertThat(removedWait.count()).isEqualTo(1);
+        assertThat(queueMetrics.getDepth(concertId)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열 SSE 브로드캐스트 - 대기열에서 빠지면 연결 정리")
+    void broadcast_CleansUpCompletedEmitters() throws Exception {
+        // given - 대기열 등록 후 같은 콘서트에 두 개의 스트림 연결
+        QueueRequest request = new QueueRequest(testConcert.getId());
+        mockMvc.perform(post("/api/queue")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        int baseline = queueStreamService.getConnectionCount();
+        queueStreamService.subscribe(testConcert.getId(), normalUser.getId());
+        queueStreamService.subscribe(testConcert.getId(), normalUser.getId());
+        queueStreamService.broadcast();
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline + 2);
+
+        // when - 대기열에서 제거된 뒤 브로드캐스트
+        queueService.removeFromQueue(testConcert.getId(), normalUser.getId());
+        queueStreamService.broadcast();
+
+        // then
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("대기열 STOMP - 순번은 사용자 경로로 세션 수와 무관하게 한 번, 전체 대기 인원은 토픽으로 전송")
+    void stomp_PushesStatusToUserDestination() {
+        // given - 같은 사용자가 두 세션에서 콘서트 토픽 구독
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        QueueStompService stompService = new QueueStompService(queueService, messagingTemplate, new SimpleMeterRegistry());
+        Long concertId = testConcert.getId();
+        queueService.registerToQueue(concertId, normalUser);
+
+        stompService.subscribe(concertId, normalUser.getId(), normalUser.getUsername(), "session-1", "sub-0");
+        stompService.subscribe(concertId, normalUser.getId(), normalUser.getUsername(), "session-2", "sub-0");
+
+        // when
+        stompService.flushChanges();
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSendToUser(
+                eq(normalUser.getUsername()), eq(QueueStompService.STATUS_DESTINATION), any(QueueStatusResponse.class));
+        verify(messagingTemplate, times(1)).convertAndSend(
+                eq(QueueStompService.TOPIC_PREFIX + concertId), any(QueueSummaryResponse.class));
+
+        // 순번 구간이 그대로면 전송하지 않음
+        stompService.markChanged(concertId);
+        stompService.flushChanges();
+        verify(messagingTemplate, times(1)).convertAndSendToUser(
+                eq(normalUser.getUsername()), eq(QueueStompService.STATUS_DESTINATION), any(QueueStatusResponse.class));
+
+        // 대기열에서 빠지면 마지막 상태 전송 후 구독자 정리
+        queueService.removeFromQueue(concertId, normalUser.getId());
+        stompService.markChanged(concertId);
+        stompService.flushChanges();
+        verify(messagingTemplate, times(2)).convertAndSendToUser(
+                eq(normalUser.getUsername()), eq(QueueStompService.STATUS_DESTINATION), any(QueueStatusResponse.class));
+        assertThat(stompService.getSubscriberCount(concertId)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열 SSE - 같은 기기 재연결은 교체, 사용자당 연결 수를 넘으면 등록 기기를 제외한 오래된 연결부터 종료")
+    void stream_CoalescesDevicesPerUser() {
+        // given - 기기 A 로 대기열 등록 (대기열 항목이 기기 A 에 바인딩)
+        Long concertId = testConcert.getId();
+        queueService.registerToQueue(concertId, normalUser, QueueLanes.DEFAULT_LANE, "device-a");
+        assertThat(queueService.getBoundDevice(concertId, normalUser.getId())).isEqualTo("device-a");
+        int baseline = queueStreamService.getConnectionCount();
+
+        // when - 기기 A 두 번 연결(재연결), 이후 B, C, D 연결 (사용자당 최대 3개)
+        queueStreamService.subscribe(concertId, normalUser.getId(), "device-a");
+        queueStreamService.subscribe(concertId, normalUser.getId(), "device-a");
+        queueStreamService.subscribe(concertId, normalUser.getId(), "device-b");
+        queueStreamService.subscribe(concertId, normalUser.getId(), "device-c");
+        queueStreamService.subscribe(concertId, normalUser.getId(), "device-d");
+
+        // then - 등록 기기 A 는 유지되고 가장 오래된 B 가 종료됨
+        assertThat(queueStreamService.getDevices(concertId, normalUser.getId()))
+                .containsExactly("device-a", "device-c", "device-d");
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline + 3);
+
+        // 대기열에서 빠지면 사용자 구독 전체 종료
+        queueService.removeFromQueue(concertId, normalUser.getId());
+        queueStreamService.broadcast();
+        assertThat(queueStreamService.getDevices(concertId, normalUser.getId())).isEmpty();
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("대기열 SSE - 대기열 변경 이벤트를 받으면 주기 브로드캐스트 없이 전송")
+    void stream_PushesOnQueueChangedEvent() throws Exception {
+        // given
+        queueService.registerToQueue(testConcert.getId(), normalUser);
+        int baseline = queueStreamService.getConnectionCount();
+        queueStreamService.subscribe(testConcert.getId(), normalUser.getId());
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline + 1);
+
+        // when - 대기열에서 제거 (Redis Pub/Sub 으로 변경 이벤트 발행)
+        queueService.removeFromQueue(testConcert.getId(), normalUser.getId());
+
+        // then - 이벤트 수신 후 전송 주기에 queue-complete 전송 및 연결 정리
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queueStreamService.getConnectionCount() != baseline && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(queueStreamService.getConnectionCount()).isEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간 - 관측된 입장 처리량 기준으로 계산")
+    void estimateWaitTime_FromObservedAdmissionRate() throws Exception {
+        // given - 대기열 등록 (처리량 관측 전에는 인원당 고정 시간)
+        QueueRequest request = new QueueRequest(testConcert.getId());
+        mockMvc.perform(post("/api/queue")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        assertThat(queueService.getQueueStatus(testConcert.getId(), normalUser.getId()).getEstimatedWaitTime())
+                .isEqualTo(30);
+
+        // when - 기준 샘플 이후 입장 처리 발생
+        queueWaitTimeEstimator.sample();
+        queueWaitTimeEstimator.recordAdmissions(testConcert.getId(), 100);
+        Thread.sleep(500);
+        queueWaitTimeEstimator.sample();
+
+        // then
+        double rate = queueWaitTimeEstimator.getAdmissionRate(testConcert.getId());
+        assertThat(rate).isPositive();
+        assertThat(queueWaitTimeEstimator.estimateWaitSeconds(testConcert.getId(), 1000))
+                .isEqualTo((int) Math.ceil(1000 / rate));
+    }
+
+    @Test
+    @DisplayName("대기열 정리 - 하트비트가 끊긴 대기자만 제거")
+    void reap_RemovesOnlyStaleEntries() throws Exception {
+        // given - 두 명 등록 후 앞 사용자의 하트비트를 오래전으로 설정
+        User otherUser = userRepository.save(User.builder()
+                .username("other")
+                .email("other@test.com")
+                .password(passwordEncoder.encode("password"))
+                .role(UserRole.USER)
+                .build());
+        queueService.registerToQueue(testConcert.getId(), normalUser);
+        queueService.registerToQueue(testConcert.getId(), otherUser);
+        redisTemplate.opsForZSet().add(QueueKeys.heartbeat(testConcert.getId()),
+                normalUser.getId().toString(), System.currentTimeMillis() - 3_600_000);
+
+        // when
+        long abandoned = queueReaperService.reap(testConcert.getId());
+
+        // then - 이탈자가 빠지고 뒤 사용자가 앞으로 당겨짐
+        assertThat(abandoned).isEqualTo(1);
+        assertThat(queueService.getCurrentPosition(testConcert.getId(), normalUser.getId())).isZero();
+        assertThat(queueService.getCurrentPosition(testConcert.getId(), otherUser.getId())).isEqualTo(1);
+        assertThat(redisTemplate.hasKey(QueueKeys.userPosition(testConcert.getId(), normalUser.getId()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("추첨 대기실 - 오픈 전 등록자는 오픈 시 무작위 순서로 대기열에 배정")
+    void lobby_DrawAssignsAllMembersToQueue() {
+        // given - 추첨 대기실 운영 중인 콘서트
+        Concert lobbyConcert = concertRepository.save(Concert.builder()
+                .title("추첨 콘서트")
+                .venue("올림픽공원 체조경기장")
+                .concertDate(LocalDateTime.now().plusDays(30))
+                .openTime(LocalDateTime.now().plusHours(1))
+                .closeTime(LocalDateTime.now().plusDays(29))
+                .lobbyOpenTime(LocalDateTime.now().minusHours(1))
+                .status(ConcertStatus.SCHEDULED)
+                .build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("lobby-user" + i)
+                    .email("lobby" + i + "@test.com")
+                    .password("password")
+                    .role(UserRole.USER)
+                    .build()));
+        }
+
+        // when - 대기실 등록
+        for (User user : users) {
+            QueueRegisterResponse response = queueService.registerToQueue(lobbyConcert.getId(), user);
+            assertThat(response.isRegister()).isTrue();
+            assertThat(response.getPosition()).isZero();
+        }
+
+        // then - 오픈 전에는 대기열이 아닌 대기실에 있음
+        assertThat(queueService.getQueueSize(lobbyConcert.getId())).isZero();
+        assertThat(queueLobbyService.getLobbySize(lobbyConcert.getId())).isEqualTo(5);
+        assertThat(queueService.getQueueStatus(lobbyConcert.getId(), users.get(0).getId()).getInLobby()).isTrue();
+
+        // when - 오픈 시점 추첨
+        int drawn = queueLobbyService.draw(lobbyConcert.getId());
+
+        // then - 모든 등록자가 1 ~ 5 순번을 하나씩 배정받음
+        assertThat(drawn).isEqualTo(5);
+        assertThat(queueLobbyService.getLobbySize(lobbyConcert.getId())).isZero();
+        Set<Long> positions = new HashSet<>();
+        for (User user : users) {
+            positions.add(queueService.getCurrentPosition(lobbyConcert.getId(), user.getId()));
+            assertThat(redisTemplate.hasKey(QueueKeys.userPosition(lobbyConcert.getId(), user.getId()))).isTrue();
+        }
+        assertThat(positions).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(queueService.getQueueStatus(lobbyConcert.getId(), users.get(0).getId()).getInLobby()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열 체크포인트 - Redis 데이터가 유실되면 저장된 대기 번호로 대기열과 시퀀스 복구")
+    void checkpoint_RebuildsQueueAfterRedisLoss() {
+        // given - 3명 등록 후 체크포인트, 맨 앞 대기자 입장(이탈) 후 다시 체크포인트
+        Long concertId = testConcert.getId();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("checkpoint-user" + i)
+                    .email("checkpoint" + i + "@test.com")
+                    .password("password")
+                    .role(UserRole.USER)
+                    .build()));
+        }
+        users.forEach(user -> queueService.registerToQueue(concertId, user));
+
+        queueCheckpointService.restoreIfLost(); // 복구할 기록 없음 → 정상 상태 표시
+        assertThat(queueCheckpointService.checkpoint(concertId)).isEqualTo(3);
+        queueService.removeFromQueue(concertId, users.get(0).getId());
+        queueCheckpointService.checkpoint(concertId);
+
+        // when - Redis 재시작으로 데이터 유실
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        assertThat(queueCheckpointService.restoreIfLost()).isTrue();
+
+        // then - 남아 있던 대기자만 원래 순서로 복구
+        assertThat(queueService.getQueueSize(concertId)).isEqualTo(2);
+        assertThat(queueService.getCurrentPosition(concertId, users.get(1).getId())).isEqualTo(1);
+        assertThat(queueService.getCurrentPosition(concertId, users.get(2).getId())).isEqualTo(2);
+
+        // 시퀀스도 복구되어 새 대기자는 기존 번호 뒤에 배정
+        QueueRegisterResponse response = queueService.registerToQueue(concertId, normalUser);
+        assertThat(response.getPosition()).isEqualTo(3);
+        assertThat(redisTemplate.opsForZSet().score(QueueKeys.queue(concertId), normalUser.getId().toString()))
+                .isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("대기열 체크포인트 - 복구된 대기열 항목은 바인딩된 기기 ID를 유지")
+    void checkpoint_RestoresBoundDevice() {
+        // given - 기기 ID로 등록 후 체크포인트
+        Long concertId = testConcert.getId();
+        queueService.registerToQueue(concertId, normalUser, QueueLanes.DEFAULT_LANE, "device-a");
+        queueCheckpointService.restoreIfLost();
+        queueCheckpointService.checkpoint(concertId);
+
+        // when - Redis 재시작으로 데이터 유실 후 복구
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        assertThat(queueCheckpointService.restoreIfLost()).isTrue();
+
+        // then
+        assertThat(queueService.getCurrentPosition(concertId, normalUser.getId())).isEqualTo(1);
+        assertThat(queueService.getBoundDevice(concertId, normalUser.getId())).isEqualTo("device-a");
+    }
+
+    @TestPropertySource(properties = "queue.shard.count=4")
+    static class ShardedQueueTest extends QueueIntegrationTestSupport {
+
+        @Test
+        @DisplayName("샤드 대기열 - 여러 샤드에 분산되어도 전역 순번은 등록 순서")
+        void shardedQueue_GlobalPositionFollowsRegistrationOrder() {
+            // given - 샤드 4개로 동작하는 대기열
+            List<User> users = createUsers("shard-user", 8);
+
+            // when
+            users.forEach(user -> queueService.registerToQueue(testConcert.getId(), user));
+
+            // then - 모든 샤드에 분산되고, 순번은 등록 순서를 따른다
+            for (int shard = 0; shard < 4; shard++) {
+                assertThat(redisTemplate.opsForZSet().zCard(queueShardRouter.queueKey(testConcert.getId(), shard))).isEqualTo(2);
+            }
+            assertThat(queueService.getQueueSize(testConcert.getId())).isEqualTo(8);
+            for (int i = 0; i < users.size(); i++) {
+                assertThat(queueService.getCurrentPosition(testConcert.getId(), users.get(i).getId())).isEqualTo(i + 1);
+            }
+
+            // 앞 사용자가 빠지면 뒤 사용자 순번이 당겨진다
+            queueService.removeFromQueue(testConcert.getId(), users.get(0).getId());
+            assertThat(queueService.getQueueStatuses(testConcert.getId(), List.of(users.get(7).getId()))
+                    .get(users.get(7).getId()).getPosition()).isEqualTo(7);
+        }
+    }
+
+    @TestPropertySource(properties = {
+            "queue.lanes=presale=3,general=1",
+            "queue.admission.batch-size=4"
+    })
+    static class LaneQueueTest extends QueueIntegrationTestSupport {
+
+        @Test
+        @DisplayName("대기열 레인 - 가중치 비율로 레인을 번갈아 입장, 순번은 레인 안에서 계산")
+        void lanes_AdmitByWeight() {
+            // given - presale:general = 3:1 레인, 틱당 4명 입장
+            List<User> generalUsers = createUsers("general-user", 8);
+            List<User> presaleUsers = createUsers("presale-user", 8);
+            queueService.grantLaneAccess(testConcert.getId(), "presale",
+                    presaleUsers.stream().map(User::getId).toList());
+
+            // 등록 허용 명단에 없는 사용자는 레인에 등록할 수 없음
+            assertThatThrownBy(() -> queueService.registerToQueue(testConcert.getId(), normalUser, "presale"))
+                    .isInstanceOf(CustomException.class);
+
+            // 일반 레인이 먼저 등록한 뒤 선예매 레인 등록
+            generalUsers.forEach(user -> queueService.registerToQueue(testConcert.getId(), user));
+            presaleUsers.forEach(user -> queueService.registerToQueue(testConcert.getId(), user, "presale"));
+            assertThat(queueService.getQueueSize(testConcert.getId())).isEqualTo(16);
+            assertThat(queueService.getCurrentPosition(testConcert.getId(), presaleUsers.get(0).getId())).isEqualTo(1);
+
+            // 다른 레인에 중복 등록되지 않음
+            assertThat(queueService.registerToQueue(testConcert.getId(), presaleUsers.get(0)).getLane())
+                    .isEqualTo("presale");
+
+            for (int i = 0; i < 8; i++) {
+                seatRepository.save(Seat.builder()
+                        .concert(testConcert)
+                        .section("A")
+                        .row("1")
+                        .number(String.valueOf(i + 1))
+                        .grade("VIP")
+                        .price(new BigDecimal("150000"))
+                        .build());
+            }
+            seatInventoryService.evict(testConcert.getId());
+
+            // when
+            List<String> firstTick = queueAdmissionService.admit(testConcert.getId());
+            List<String> secondTick = queueAdmissionService.admit(testConcert.getId());
+
+            // then - 틱마다 선예매 3명, 일반 1명 (레인 안에서는 등록 순서)
+            assertThat(firstTick).containsExactly(
+                    presaleUsers.get(0).getId().toString(), presaleUsers.get(1).getId().toString(),
+                    presaleUsers.get(2).getId().toString(), generalUsers.get(0).getId().toString());
+            assertThat(secondTick).containsExactly(
+                    presaleUsers.get(3).getId().toString(), presaleUsers.get(4).getId().toString(),
+                    presaleUsers.get(5).getId().toString(), generalUsers.get(1).getId().toString());
+
+            QueueStatusResponse status = queueService.getQueueStatus(testConcert.getId(), generalUsers.get(2).getId());
+            assertThat(status.getLane()).isEqualTo("general");
+            assertThat(status.getPosition()).isEqualTo(1);
+        }
+    }
+
+    @TestPropertySource(properties = {
+            "queue.watermark.enabled=true",
+            "queue.watermark.exact-rank-threshold=2"
+    })
+    static class WatermarkTest extends QueueIntegrationTestSupport {
+
+        @Test
+        @DisplayName("워터마크 모드 - 뒤쪽 대기자는 대기 번호와 워터마크로 대략 순번, 앞쪽만 정확한 순번")
+        void watermark_ApproximatesPositionBehindFront() {
+            // given - 정확한 순번은 2번까지만 계산
+            List<User> users = createUsers("watermark-user", 5);
+            users.forEach(user -> queueService.registerToQueue(testConcert.getId(), user));
+
+            // when - 맨 앞(대기 번호 1)과 중간(대기 번호 3) 대기자가 빠진 뒤 워터마크 갱신
+            queueService.removeFromQueue(testConcert.getId(), users.get(0).getId());
+            queueService.removeFromQueue(testConcert.getId(), users.get(2).getId());
+            assertThat(queueWatermarkService.refresh(testConcert.getId())).containsEntry(QueueLanes.DEFAULT_LANE, 1L);
+
+            // then - 앞쪽은 정확한 순번
+            QueueStatusResponse front = queueService.getQueueStatus(testConcert.getId(), users.get(1).getId());
+            assertThat(front.getPosition()).isEqualTo(1);
+            assertThat(front.getApproximate()).isFalse();
+
+            // 뒤쪽은 대기 번호 5 - 워터마크 1 = 4 (중간 이탈자만큼 실제 순번 3보다 큼)
+            QueueStatusResponse back = queueService.getQueueStatus(testConcert.getId(), users.get(4).getId());
+            assertThat(back.getTicket()).isEqualTo(5L);
+            assertThat(back.getPosition()).isEqualTo(4);
+            assertThat(back.getApproximate()).isTrue();
+        }
+    }
+
+    // 커넥션 풀 지표를 직접 조작하기 위해 Hikari 지표 바인딩은 제외
+    @TestPropertySource(properties = {
+            "spring.autoconfigure.exclude=org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsAutoConfiguration",
+            "queue.admission.throttle.enabled=true",
+            "queue.admission.throttle.min-batch-size=10",
+            "queue.admission.throttle.increase-step=10",
+            "queue.admission.throttle.decrease-factor=0.5",
+            "queue.admission.throttle.decrease-cooldown-ms=0",
+            "queue.admission.throttle.redis-latency-ms=1000"
+    })
+    static class AdmissionThrottleTest extends QueueIntegrationTestSupport {
+
+        @Test
+        @DisplayName("입장 조절 - DB 커넥션 대기가 생기면 배치 크기를 줄이고, 해소 후 배치가 가득 차면 다시 늘림")
+        void throttle_AdjustsBatchSizeBySaturation() {
+            // given - 직접 조작할 수 있는 커넥션 대기 지표
+            AtomicInteger pending = new AtomicInteger();
+            Gauge.builder("hikaricp.connections.pending", pending, AtomicInteger::get).register(meterRegistry);
+
+            // 포화 신호가 없으면 설정값(상한)에서 시작
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(100);
+
+            // when - 커넥션 대기 발생 → 절반씩 감소, 최소값 아래로는 내려가지 않음
+            pending.set(3);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(50);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(25);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(12);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(10);
+
+            // then - 대기 해소: 수요가 없으면 유지, 배치가 가득 찬 주기 뒤에는 일정량 증가
+            pending.set(0);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(10);
+            queueAdmissionThrottle.recordDemand(true);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(20);
+            queueAdmissionThrottle.recordDemand(true);
+            assertThat(queueAdmissionThrottle.nextBatchSize(100)).isEqualTo(30);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.concertmania.ticketing.queue;
+
+import com.concertmania.ticketing.concert.entity.Concert;
+import com.concertmania.ticketing.concert.enums.ConcertStatus;
+import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.queue.service.QueueAdmissionService;
+import com.concertmania.ticketing.queue.service.QueueAdmissionThrottle;
+import com.concertmania.ticketing.queue.service.QueueService;
+import com.concertmania.ticketing.queue.service.QueueShardRouter;
+import com.concertmania.ticketing.queue.service.QueueWatermarkService;
+import com.concertmania.ticketing.seat.repository.SeatRepository;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import com.concertmania.ticketing.user.entity.User;
+import com.concertmania.ticketing.user.enums.UserRole;
+import com.concertmania.ticketing.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설정값이 다른 대기열 시나리오(샤드, 레인, 워터마크, 입장 조절)의 통합 테스트 공통 설정
+ * 이 클래스를 상속하고 @TestPropertySource 로 설정만 바꿔, 설정별 컨텍스트의 실제 빈으로 테스트한다.
+ */
+@SpringBootTest
+@Testcontainers
+@Transactional
+@ActiveProfiles("test")
+abstract class QueueIntegrationTestSupport {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("ticketing_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+    }
+
+    @Autowired
+    protected ConcertRepository concertRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+
+    @Autowired
+    protected RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    protected SeatRepository seatRepository;
+
+    @Autowired
+    protected SeatInventoryService seatInventoryService;
+
+    @Autowired
+    protected QueueService queueService;
+
+    @Autowired
+    protected QueueAdmissionService queueAdmissionService;
+
+    @Autowired
+    protected QueueShardRouter queueShardRouter;
+
+    @Autowired
+    protected QueueWatermarkService queueWatermarkService;
+
+    @Autowired
+    protected QueueAdmissionThrottle queueAdmissionThrottle;
+
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected User normalUser;
+    protected Concert testConcert;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 초기화
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        // 일반 사용자 생성
+        normalUser = createUser("user");
+
+        // 테스트용 콘서트 생성
+        testConcert = concertRepository.save(Concert.builder()
+                .title("아이유 콘서트 2024")
+                .venue("올림픽공원 체조경기장")
+                .concertDate(LocalDateTime.now().plusDays(30))
+                .openTime(LocalDateTime.now().plusDays(1))
+                .closeTime(LocalDateTime.now().plusDays(29))
+                .status(ConcertStatus.SCHEDULED)
+                .build());
+    }
+
+    /**
+     * 일반 사용자 생성 (이메일: {username}@test.com)
+     */
+    protected User createUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password(passwordEncoder.encode("password"))
+                .role(UserRole.USER)
+                .build());
+    }
+
+    /**
+     * 일반 사용자 여러 명 생성 (사용자명: {prefix}0 ~ {prefix}{count - 1})
+     */
+    protected List<User> createUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(createUser(prefix + i));
+        }
+        return users;
+    }
+}
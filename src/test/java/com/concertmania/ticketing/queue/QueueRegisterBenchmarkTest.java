@@ -0,0 +1,155 @@
+package com.concertmania.ticketing.queue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 등록 경로 벤치마크 (기존 다중 왕복 방식 vs Lua 스크립트 단일 왕복 방식)
+ * 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+public class QueueRegisterBenchmarkTest {
+
+    private static final int USERS = 20_000;
+    private static final int THREADS = 16;
+    private static final String QUEUE_KEY = "concert:queue:";
+    private static final String USER_POSITION_KEY = "concert:user:position:";
+    private static final String HEARTBEAT_KEY = "concert:queue:heartbeat:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REGISTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/queue-register.lua"), List.class);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("대기열 등록 - 기존 방식 vs Lua 스크립트")
+    void compareRegisterPaths() throws Exception {
+        // 워밍업
+        run(1L, this::registerLegacy, 2_000);
+        run(2L, this::registerWithScript, 2_000);
+
+        double legacyOps = run(10L, this::registerLegacy, USERS);
+        double scriptOps = run(20L, this::registerWithScript, USERS);
+
+        log.info(String.format("[benchmark] 기존 방식(hasKey+ZADD+SET+ZRANK) : %,.0f ops/s", legacyOps));
+        log.info(String.format("[benchmark] Lua 스크립트(단일 왕복)           : %,.0f ops/s", scriptOps));
+        log.info(String.format("[benchmark] 개선 비율                          : x%.2f", scriptOps / legacyOps));
+
+        // 두 방식 모두 모든 사용자가 정확히 한 번씩 등록되어야 함
+        assertThat(redisTemplate.opsForZSet().zCard(QUEUE_KEY + 10L)).isEqualTo(USERS);
+        assertThat(redisTemplate.opsForZSet().zCard(QUEUE_KEY + 20L)).isEqualTo(USERS);
+    }
+
+    private double run(Long concertId, RegisterPath path, int users) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicLong next = new AtomicLong();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                long userId;
+                while ((userId = next.incrementAndGet()) <= users) {
+                    path.register(concertId).accept(userId);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.MINUTES);
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return users / seconds;
+    }
+
+    /**
+     * 기존 QueueService 등록 경로 (hasKey → ZADD → SET → ZRANK, 4회 왕복)
+     */
+    private LongConsumer registerLegacy(Long concertId) {
+        return userId -> {
+            String queueKey = QUEUE_KEY + concertId;
+            String userPositionKey = USER_POSITION_KEY + concertId + ":" + userId;
+
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(userPositionKey))) {
+                redisTemplate.opsForZSet().rank(queueKey, String.valueOf(userId));
+                return;
+            }
+            redisTemplate.opsForZSet().add(queueKey, String.valueOf(userId), System.currentTimeMillis());
+            redisTemplate.opsForValue().set(userPositionKey, "registered", Duration.ofHours(24));
+            redisTemplate.opsForZSet().rank(queueKey, String.valueOf(userId));
+        };
+    }
+
+    /**
+     * Lua 스크립트 등록 경로 (1회 왕복)
+     */
+    private LongConsumer registerWithScript(Long concertId) {
+        return userId -> redisTemplate.execute(
+                REGISTER_SCRIPT,
+                List.of(QUEUE_KEY + concertId, USER_POSITION_KEY + concertId + ":" + userId,
+                        HEARTBEAT_KEY + concertId),
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(Duration.ofHours(24).getSeconds()),
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    @FunctionalInterface
+    private interface RegisterPath {
+        LongConsumer register(Long concertId);
+    }
+}
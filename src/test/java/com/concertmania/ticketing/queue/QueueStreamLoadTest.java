@@ -0,0 +1,207 @@
+package com.concertmania.ticketing.queue;
+
+import com.concertmania.ticketing.concert.entity.Concert;
+import com.concertmania.ticketing.concert.enums.ConcertStatus;
+import com.concertmania.ticketing.concert.repository.ConcertRepository;
+import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.queue.service.QueueStreamService;
+import com.concertmania.ticketing.user.entity.User;
+import com.concertmania.ticketing.user.enums.UserRole;
+import com.concertmania.ticketing.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 SSE 스트림을 열어둔 상태에서의 동시 요청 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ * Tomcat 스레드 수를 작게 제한해 두 실행 모드의 처리량/지연 차이를 비교한다.
+ * 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.tomcat.threads.max=16"
+)
+@ActiveProfiles("test")
+public abstract class QueueStreamLoadTest {
+
+    private static final int OPEN_STREAMS = 1_000;
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 25;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+        registry.add("queue.stream.max-connections", () -> OPEN_STREAMS * 2);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private QueueStreamService queueStreamService;
+
+    @Test
+    @DisplayName("SSE 스트림 유지 중 동시 요청 처리량")
+    void loadWithOpenStreams() throws Exception {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        User user = userRepository.save(User.builder()
+                .username("load-user-" + virtualThreads)
+                .email("load-" + virtualThreads + "@test.com")
+                .password(passwordEncoder.encode("password"))
+                .role(UserRole.USER)
+                .build());
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        Concert concert = concertRepository.save(Concert.builder()
+                .title("부하 테스트 콘서트")
+                .venue("테스트 공연장")
+                .concertDate(LocalDateTime.now().plusDays(30))
+                .openTime(LocalDateTime.now().minusDays(1))
+                .closeTime(LocalDateTime.now().plusDays(29))
+                .status(ConcertStatus.SCHEDULED)
+                .build());
+        String baseUrl = "http://localhost:" + port + "/api";
+
+        ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // 좌석이 없으므로 대기열에 남아 스트림이 유지됨
+        HttpResponse<String> register = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/queue"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"concertId\":" + concert.getId() + "}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(register.statusCode()).isEqualTo(200);
+
+        // SSE 스트림 오픈
+        List<CompletableFuture<HttpResponse<Stream<String>>>> streams = new ArrayList<>();
+        HttpRequest streamRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/queue/" + concert.getId() + "/stream"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        for (int i = 0; i < OPEN_STREAMS; i++) {
+            streams.add(client.sendAsync(streamRequest, HttpResponse.BodyHandlers.ofLines()));
+        }
+        CompletableFuture.allOf(streams.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        assertThat(queueStreamService.getConnectionCount()).isGreaterThanOrEqualTo(OPEN_STREAMS);
+
+        // 동시 요청 (JWT 인증 + DB 조회 + Redis 조회)
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/seat/concert/" + concert.getId() + "/availability"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(CompletableFuture.runAsync(() -> {
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long requestStart = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - requestStart);
+                }
+            }, clientExecutor));
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        log.info(String.format("[benchmark] 실행 모드: %s, 열린 SSE 스트림: %,d",
+                virtualThreads ? "가상 스레드" : "플랫폼 스레드(Tomcat 16)", queueStreamService.getConnectionCount()));
+        log.info(String.format("[benchmark] 요청 %,d건, 처리량 %,.0f req/s, p50 %.1fms, p99 %.1fms, 실패 %d건",
+                sorted.size(), sorted.size() / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), failures.get()));
+
+        streams.forEach(stream -> stream.join().body().close());
+        clientExecutor.shutdownNow();
+
+        assertThat(failures.get()).isZero();
+    }
+
+    private double percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    static class PlatformThreadTest extends QueueStreamLoadTest {
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    static class VirtualThreadTest extends QueueStreamLoadTest {
+    }
+}
@@ -4,11 +4,20 @@ import com.concertmania.ticketing.concert.entity.Concert;
 import com.concertmania.ticketing.concert.enums.ConcertStatus;
 import com.concertmania.ticketing.concert.repository.ConcertRepository;
 import com.concertmania.ticketing.config.security.JwtTokenProvider;
+import com.concertmania.ticketing.reservation.entity.Reservation;
+import com.concertmania.ticketing.reservation.entity.ReservationSeat;
+import com.concertmania.ticketing.reservation.enums.ReservationStatus;
+import com.concertmania.ticketing.reservation.repository.ReservationRepository;
+import com.concertmania.ticketing.reservation.repository.ReservationSeatRepository;
 import com.concertmania.ticketing.seat.dto.SeatCreateRequest;
+import com.concertmania.ticketing.seat.dto.SeatHoldRequest;
 import com.concertmania.ticketing.seat.dto.SeatResponse;
 import com.concertmania.ticketing.seat.dto.SeatSelectResponse;
 import com.concertmania.ticketing.seat.entity.Seat;
 import com.concertmania.ticketing.seat.repository.SeatRepository;
+import com.concertmania.ticketing.seat.service.SeatAvailabilityIndex;
+import com.concertmania.ticketing.seat.service.SeatInventoryService;
+import com.concertmania.ticketing.seat.service.SeatMapService;
 import com.concertmania.ticketing.user.entity.User;
 import com.concertmania.ticketing.user.enums.UserRole;
 import com.concertmania.ticketing.user.repository.UserRepository;
@@ -21,11 +30,14 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -33,8 +45,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -82,10 +96,29 @@ public class SeatIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSeatRepository reservationSeatRepository;
+
+    @Autowired
+    private SeatMapService seatMapService;
+
+    @Autowired
+    private SeatAvailabilityIndex seatAvailabilityIndex;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     private User adminUser;
     private User normalUser;
     private String adminToken;
     private String userToken;
+    private String admissionPass;
     private Concert testConcert;
 
     @BeforeEach
@@ -130,6 +163,10 @@ public class SeatIntegrationTest {
                 .status(ConcertStatus.SCHEDULED)
                 .build();
         testConcert = concertRepository.save(testConcert);
+
+        // 대기열 입장권 발급 (입장 허용 상태)
+        admissionPass = jwtTokenProvider.createAdmissionPass(
+                normalUser.getId(), testConcert.getId(), new Date(System.currentTimeMillis() + 600_000));
     }
 
     @Test
@@ -205,6 +242,122 @@ public class SeatIntegrationTest {
                 .andExpect(jsonPath("$[1].concertTitle").value("아이유 콘서트 2024"));
     }
 
+    @Test
+    @DisplayName("좌석 배치도 스냅샷 - 예약 상태 변경 시 바뀐 좌석만 반영하고 버전/ETag 갱신")
+    void getSeatSeatMapByConcert_IncrementalSnapshot() throws Exception {
+        // given
+        Seat seat1 = Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build();
+        Seat seat2 = Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("2")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build();
+        seatRepository.saveAll(List.of(seat1, seat2));
+
+        String seatMapUrl = "/api/seat/concert/" + testConcert.getId() + "/seat-map";
+        String etag = mockMvc.perform(get(seatMapUrl)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SeatMapService.VERSION_HEADER, "0"))
+                .andExpect(jsonPath("$[0].reserved").value(false))
+                .andExpect(jsonPath("$[1].reserved").value(false))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 변경이 없으면 304
+        mockMvc.perform(get(seatMapUrl)
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // when - 좌석 1 결제 진행 (결제 시작과 같이 비트맵 반영, 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 기록을 직접 호출)
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(normalUser)
+                .concert(testConcert)
+                .status(ReservationStatus.IN_PROGRESS)
+                .build());
+        reservationSeatRepository.save(ReservationSeat.builder()
+                .reservation(reservation)
+                .seat(seat1)
+                .build());
+        seatAvailabilityIndex.markReserved(seat1, true);
+        runAfterCommit();
+        seatMapService.publishChange(testConcert.getId(), List.of(seat1.getId().toString()));
+
+        // then
+        mockMvc.perform(get(seatMapUrl)
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SeatMapService.VERSION_HEADER, "1"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(seat1.getId()))
+                .andExpect(jsonPath("$[0].reserved").value(true))
+                .andExpect(jsonPath("$[0].concertTitle").value("아이유 콘서트 2024"))
+                .andExpect(jsonPath("$[1].reserved").value(false));
+    }
+
+    @Test
+    @DisplayName("등급별 좌석 조회 - 가용성 비트맵을 DB 기준으로 구성한 뒤 SETBIT 으로 갱신")
+    void getSeatsByGrade_ReadsAvailabilityBitmap() throws Exception {
+        // given - 비트맵 구성 전에 좌석 1 결제 진행 중
+        Seat seat1 = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        Seat seat2 = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("2")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(normalUser)
+                .concert(testConcert)
+                .status(ReservationStatus.IN_PROGRESS)
+                .build());
+        reservationSeatRepository.save(ReservationSeat.builder()
+                .reservation(reservation)
+                .seat(seat1)
+                .build());
+
+        String gradeUrl = "/api/seat/concert/" + testConcert.getId() + "/seats";
+        mockMvc.perform(get(gradeUrl)
+                        .param("grade", "VIP")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + seat1.getId() + ")].reserved").value(true))
+                .andExpect(jsonPath("$[?(@.id == " + seat2.getId() + ")].reserved").value(false));
+
+        // when - 좌석 1 결제 실패, 좌석 2 결제 시작
+        seatAvailabilityIndex.markReserved(seat1, false);
+        seatAvailabilityIndex.markReserved(seat2, true);
+        runAfterCommit();
+
+        // then
+        mockMvc.perform(get(gradeUrl)
+                        .param("grade", "VIP")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + seat1.getId() + ")].reserved").value(false))
+                .andExpect(jsonPath("$[?(@.id == " + seat2.getId() + ")].reserved").value(true));
+    }
+
     @Test
     @DisplayName("좌석 선택")
     void selectSeat_Success() throws Exception {
@@ -221,7 +374,8 @@ public class SeatIntegrationTest {
 
         // when & then
         mockMvc.perform(post("/api/seat/" + seat.getId() + "/select")
-                        .header("Authorization", "Bearer " + userToken))
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(seat.getId()))
                 .andExpect(jsonPath("$.section").value("A"))
@@ -231,4 +385,226 @@ public class SeatIntegrationTest {
                 .andExpect(jsonPath("$.price").value(150000))
                 .andExpect(jsonPath("$.expiresAt").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("잔여 좌석 수 조회 - 좌석 선택 시 차감")
+    void getSeatAvailability_DecreasesOnSelect() throws Exception {
+        // given
+        Seat vipSeat = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("B")
+                .row("1")
+                .number("1")
+                .grade("R")
+                .price(new BigDecimal("100000"))
+                .build());
+
+        mockMvc.perform(get("/api/seat/concert/" + testConcert.getId() + "/availability")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freeSeats").value(2))
+                .andExpect(jsonPath("$.freeSeatsByGrade.VIP").value(1))
+                .andExpect(jsonPath("$.freeSeatsByGrade.R").value(1));
+
+        // when - VIP 좌석 선택
+        mockMvc.perform(post("/api/seat/" + vipSeat.getId() + "/select")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
+                .andExpect(status().isOk());
+        runAfterCommit();
+
+        // then
+        mockMvc.perform(get("/api/seat/concert/" + testConcert.getId() + "/availability")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freeSeats").value(1))
+                .andExpect(jsonPath("$.freeSeatsByGrade.VIP").value(0))
+                .andExpect(jsonPath("$.freeSeatsByGrade.R").value(1));
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 보정 - 락 만료 이벤트를 놓친 좌석만 잔여 좌석으로 복구")
+    void reconcile_FreesSeatsWithoutLockOrReservation() throws Exception {
+        // given - 좌석 3은 결제 진행 중, 좌석 1, 2 선택
+        List<Seat> seats = seatRepository.saveAll(List.of(
+                Seat.builder().concert(testConcert).section("A").row("1").number("1").grade("VIP").price(new BigDecimal("150000")).build(),
+                Seat.builder().concert(testConcert).section("A").row("1").number("2").grade("VIP").price(new BigDecimal("150000")).build(),
+                Seat.builder().concert(testConcert).section("A").row("1").number("3").grade("VIP").price(new BigDecimal("150000")).build()
+        ));
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(normalUser)
+                .concert(testConcert)
+                .status(ReservationStatus.IN_PROGRESS)
+                .build());
+        reservationSeatRepository.save(ReservationSeat.builder()
+                .reservation(reservation)
+                .seat(seats.get(2))
+                .build());
+        assertThat(seatInventoryService.getFreeSeatCount(testConcert.getId())).isEqualTo(2);
+
+        for (Seat seat : seats.subList(0, 2)) {
+            mockMvc.perform(post("/api/seat/" + seat.getId() + "/select")
+                            .header("Authorization", "Bearer " + userToken)
+                            .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
+                    .andExpect(status().isOk());
+        }
+        runAfterCommit();
+        assertThat(seatInventoryService.getFreeSeatCount(testConcert.getId())).isZero();
+
+        // 좌석 2 락이 만료됐지만 만료 이벤트를 받지 못함
+        redisTemplate.delete("seat_lock:" + seats.get(1).getId());
+
+        // when
+        int reconciled = seatInventoryService.reconcile(testConcert.getId());
+        runAfterCommit();
+
+        // then - 락이 남은 좌석 1, 결제 중인 좌석 3은 점유 유지
+        assertThat(reconciled).isEqualTo(1);
+        assertThat(seatInventoryService.getFreeSeatCount(testConcert.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌석 배치도 / 등급별 조회 - 다른 사용자가 선택한 좌석은 선점 상태로 표시")
+    void getSeatSeatMapByConcert_ShowsHeldSeats() throws Exception {
+        // given
+        Seat seat1 = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        Seat seat2 = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("2")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+
+        // when - 좌석 1 선택 (좌석 락 획득)
+        mockMvc.perform(post("/api/seat/" + seat1.getId() + "/select")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/api/seat/concert/" + testConcert.getId() + "/seat-map")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].held").value(true))
+                .andExpect(jsonPath("$[0].reserved").value(false))
+                .andExpect(jsonPath("$[1].held").value(false));
+
+        mockMvc.perform(get("/api/seat/concert/" + testConcert.getId() + "/seats")
+                        .param("grade", "VIP")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + seat1.getId() + ")].held").value(true))
+                .andExpect(jsonPath("$[?(@.id == " + seat2.getId() + ")].held").value(false));
+    }
+
+    @Test
+    @DisplayName("여러 좌석 동시 선택 / 해제 - 하나라도 다른 사용자가 선택했으면 아무 좌석도 선택하지 않음")
+    void holdSeats_AllOrNothing() throws Exception {
+        // given - 좌석 3은 다른 사용자가 선택
+        List<Seat> seats = seatRepository.saveAll(List.of(
+                Seat.builder().concert(testConcert).section("A").row("1").number("1").grade("VIP").price(new BigDecimal("150000")).build(),
+                Seat.builder().concert(testConcert).section("A").row("1").number("2").grade("VIP").price(new BigDecimal("150000")).build(),
+                Seat.builder().concert(testConcert).section("A").row("1").number("3").grade("VIP").price(new BigDecimal("150000")).build()
+        ));
+        Long seat1 = seats.get(0).getId();
+        Long seat2 = seats.get(1).getId();
+        Long seat3 = seats.get(2).getId();
+        redisTemplate.opsForValue().set("seat_lock:" + seat3, "999999");
+
+        // when & then - 좌석 3이 포함되면 좌석 1도 선택되지 않음
+        mockMvc.perform(post("/api/seat/hold")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(List.of(seat1, seat3)))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SEAT_ALREADY_LOCKED"))
+                .andExpect(jsonPath("$.message").value("다른 사용자가 이미 선택한 좌석입니다. (좌석 ID: " + seat3 + ")"));
+        assertThat(redisTemplate.hasKey("seat_lock:" + seat1)).isFalse();
+
+        // 좌석 1, 2 동시 선택
+        mockMvc.perform(post("/api/seat/hold")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(List.of(seat1, seat2)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seats.length()").value(2))
+                .andExpect(jsonPath("$.seats[0].id").value(seat1))
+                .andExpect(jsonPath("$.seats[1].id").value(seat2))
+                .andExpect(jsonPath("$.expiresAt").exists());
+        assertThat(redisTemplate.opsForValue().get("seat_lock:" + seat1))
+                .isEqualTo(String.valueOf(normalUser.getId()));
+        assertThat(redisTemplate.opsForValue().get("seat_lock:" + seat2))
+                .isEqualTo(String.valueOf(normalUser.getId()));
+
+        // 해제 - 다른 사용자의 좌석 3은 건너뜀
+        mockMvc.perform(post("/api/seat/hold/release")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(List.of(seat1, seat2, seat3)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.releasedSeatIds.length()").value(2))
+                .andExpect(jsonPath("$.releasedSeatIds[0]").value(seat1))
+                .andExpect(jsonPath("$.releasedSeatIds[1]").value(seat2));
+        assertThat(redisTemplate.hasKey("seat_lock:" + seat1)).isFalse();
+        assertThat(redisTemplate.opsForValue().get("seat_lock:" + seat3)).isEqualTo("999999");
+    }
+
+    @Test
+    @DisplayName("좌석 선택 - 입장권 없이 요청하거나 다른 콘서트 입장권이면 실패")
+    void selectSeat_WithoutValidAdmissionPass() throws Exception {
+        // given
+        Seat seat = seatRepository.save(Seat.builder()
+                .concert(testConcert)
+                .section("A")
+                .row("1")
+                .number("1")
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .build());
+        String otherConcertPass = jwtTokenProvider.createAdmissionPass(
+                normalUser.getId(), testConcert.getId() + 1, new Date(System.currentTimeMillis() + 600_000));
+
+        // when & then
+        mockMvc.perform(post("/api/seat/" + seat.getId() + "/select")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/seat/" + seat.getId() + "/select")
+                        .header("Authorization", "Bearer " + userToken)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, otherConcertPass))
+                .andExpect(status().isForbidden());
+
+        // 입장권을 인증 토큰으로 사용할 수 없음
+        mockMvc.perform(post("/api/seat/" + seat.getId() + "/select")
+                        .header("Authorization", "Bearer " + admissionPass)
+                        .header(JwtTokenProvider.ADMISSION_PASS_HEADER, admissionPass))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * 커밋 후 작업 실행 (테스트 트랜잭션은 커밋되지 않으므로 직접 호출)
+     */
+    private void runAfterCommit() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+    }
+}
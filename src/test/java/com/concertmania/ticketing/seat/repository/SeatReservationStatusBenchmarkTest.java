@@ -0,0 +1,111 @@
+package com.concertmania.ticketing.seat.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 예약 상태 매핑 벤치마크 (JMH) - 기존 List.contains 매핑과 HashSet 매핑 비교
+ * 판매 후반(좌석의 80% 예약)을 가정해 좌석 1천 / 1만 / 5만 석에서 측정한다. DB 조회는 제외하고 매핑 비용만 측정.
+ * 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SeatReservationStatusBenchmarkTest {
+
+    private static final double RESERVED_RATIO = 0.8;
+
+    @Param({"1000", "10000", "50000"})
+    public int seats;
+
+    private List<Long> seatIds;
+    private List<Long> reservedSeatIds;
+
+    @Setup
+    public void setUp() {
+        seatIds = new ArrayList<>(seats);
+        for (long id = 1; id <= seats; id++) {
+            seatIds.add(id);
+        }
+        // 쿼리 결과 순서는 좌석 순서와 무관
+        reservedSeatIds = new ArrayList<>(seatIds.subList(0, (int) (seats * RESERVED_RATIO)));
+        Collections.shuffle(reservedSeatIds, new Random(42));
+    }
+
+    // 기존 구현: 좌석마다 List.contains - O(좌석 × 예약 좌석)
+    @Benchmark
+    public Map<Long, Boolean> listContains() {
+        return seatIds.stream()
+                .collect(Collectors.toMap(
+                        seatId -> seatId,
+                        seatId -> reservedSeatIds.contains(seatId)
+                ));
+    }
+
+    // 개선 구현: 쿼리 결과를 HashSet 으로 모은 뒤 매핑 - O(좌석)
+    @Benchmark
+    public Map<Long, Boolean> hashSet() {
+        return SeatRepositoryImpl.toReservationStatusMap(seatIds, new HashSet<>(reservedSeatIds));
+    }
+
+    @Test
+    @DisplayName("예약 상태 매핑 - List.contains 대비 HashSet 매핑 시간 (1천 / 1만 / 5만 석)")
+    void compareReservationStatusMapping() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(SeatReservationStatusBenchmarkTest.class.getName() + "\\.")
+                .build()).run();
+
+        // 좌석 수 → 구현별 평균 시간(us)
+        Map<Integer, Map<String, Double>> scores = new HashMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            scores.computeIfAbsent(Integer.valueOf(result.getParams().getParam("seats")), s -> new HashMap<>())
+                    .put(benchmark.substring(benchmark.lastIndexOf('.') + 1), result.getPrimaryResult().getScore());
+        }
+
+        scores.keySet().stream().sorted().forEach(seatCount -> {
+            double before = scores.get(seatCount).get("listContains");
+            double after = scores.get(seatCount).get("hashSet");
+            log.info(String.format("[benchmark] 좌석 %,6d석 : List.contains %,14.1fus / HashSet %,10.1fus (%,.0f배)",
+                    seatCount, before, after, before / after));
+        });
+
+        assertThat(scores).containsKeys(1000, 10000, 50000);
+        assertThat(scores.get(50000).get("hashSet")).isLessThan(scores.get(50000).get("listContains"));
+    }
+}